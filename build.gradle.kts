@@ -2,6 +2,7 @@ plugins {
     java
     alias(libs.plugins.spring.boot)
     alias(libs.plugins.spring.dependency.management)
+    alias(libs.plugins.jmh)
     id("jacoco")
 }
 
@@ -23,6 +24,8 @@ dependencyManagement {
 
 dependencies {
     implementation(libs.spring.boot.starter.web)
+    implementation(libs.spring.boot.starter.actuator)
+    runtimeOnly(libs.micrometer.registry.prometheus)
     compileOnly(libs.lombok)
     annotationProcessor(libs.lombok)
     annotationProcessor(libs.spring.boot.configuration.processor)
@@ -31,11 +34,27 @@ dependencies {
 
 // about source and compilation
 java {
-    sourceCompatibility = JavaVersion.VERSION_17
+    toolchain {
+        languageVersion.set(JavaLanguageVersion.of(21))
+    }
 }
 
 with(extensions.getByType(JacocoPluginExtension::class.java)) {
-    toolVersion = "0.8.7"
+    toolVersion = "0.8.11"
+}
+
+// benchmark tasks (src/jmh)
+// ex) ./gradlew jmh -PjmhThreads=16 -PjmhIncludes=PointWriteBenchmark -PjmhProfilers=gc
+jmh {
+    jmhVersion.set(libs.versions.jmh.get())
+    threads.set(providers.gradleProperty("jmhThreads").map { it.toInt() }.orElse(4))
+    includes.set(providers.gradleProperty("jmhIncludes").map { listOf(it) }.orElse(listOf(".*")))
+    profilers.set(providers.gradleProperty("jmhProfilers").map { it.split(",") }.orElse(listOf()))
+    fork.set(1)
+    warmupIterations.set(2)
+    iterations.set(3)
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("reports/jmh/results.json"))
 }
 
 // bundling tasks
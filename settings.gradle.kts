@@ -5,6 +5,11 @@ pluginManagement {
     }
 }
 
+plugins {
+    // JDK 21 toolchain 이 없으면 자동으로 내려받는다.
+    id("org.gradle.toolchains.foojay-resolver-convention") version "0.7.0"
+}
+
 dependencyResolutionManagement {
     @Suppress("UnstableApiUsage")
     repositories {
@@ -0,0 +1,66 @@
+package io.hhplus.tdd.database;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * 서로 다른 사용자의 내역을 여러 스레드가 동시에 저장할 때의 처리량을 shard 개수별로 측정합니다.<p>
+ * 스레드마다 겹치지 않는 사용자 1000 명의 내역을 저장하므로 shard 가 하나라면 모든 스레드가 같은 락을 기다립니다.
+ * ex) ./gradlew jmh -PjmhIncludes=PointHistoryInsertBenchmark -PjmhThreads=16
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class PointHistoryInsertBenchmark {
+
+	private static final int USERS_PER_THREAD = 1000;
+
+	@Param({"OBJECT", "COLUMNAR"})
+	public PointHistoryStorage storage;
+
+	@Param({"1", "16"})
+	public int shardCount;
+
+	private final AtomicLong threadSequence = new AtomicLong();
+	private PointHistoryTable pointHistoryTable;
+
+	@Setup(Level.Iteration)
+	public void setUp() {
+		pointHistoryTable = PointTableBenchmarkFixture.pointHistoryTable(storage, shardCount);
+	}
+
+	@State(Scope.Thread)
+	public static class UserKeys {
+		private long firstUserId;
+		private int next;
+
+		@Setup(Level.Trial)
+		public void setUp(PointHistoryInsertBenchmark benchmark) {
+			firstUserId = benchmark.threadSequence.getAndIncrement() * USERS_PER_THREAD + 1;
+		}
+
+		long nextUserId() {
+			next = next == USERS_PER_THREAD - 1 ? 0 : next + 1;
+			return firstUserId + next;
+		}
+	}
+
+	@Benchmark
+	public PointHistory insert(UserKeys userKeys) {
+		return pointHistoryTable.insert(
+			new PointHistoryEntry(userKeys.nextUserId(), 100L, 100L, TransactionType.CHARGE, 0L, 1L));
+	}
+}
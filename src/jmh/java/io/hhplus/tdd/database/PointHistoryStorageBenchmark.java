@@ -0,0 +1,77 @@
+package io.hhplus.tdd.database;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * PointHistoryTable 의 저장 방식(OBJECT/COLUMNAR)별 내역 조회 시간과 내역당 메모리를 비교합니다.<p>
+ * 내역당 메모리는 준비 단계에서 GC 이후 힙 사용량의 차이로 계산해 출력합니다.
+ * ex) ./gradlew jmh -PjmhIncludes=PointHistoryStorageBenchmark -PjmhThreads=1 -PjmhProfilers=gc
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class PointHistoryStorageBenchmark {
+
+	@Param({"OBJECT", "COLUMNAR"})
+	public PointHistoryStorage storage;
+
+	@Param({"20000000"})
+	public int historyCount;
+
+	@Param({"100000", "1000000"})
+	public int userCount;
+
+	private PointHistoryTable pointHistoryTable;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		long before = usedMemory();
+		pointHistoryTable = PointTableBenchmarkFixture.pointHistoryTable(storage, 1);
+		for (int i = 0; i < historyCount; i++) {
+			TransactionType type = (i & 1) == 0 ? TransactionType.CHARGE : TransactionType.USE;
+			pointHistoryTable.restore(new PointHistoryEntry(1L + i % userCount, i, 100L, type, i, i / userCount + 1L));
+		}
+		long after = usedMemory();
+		System.out.printf("%n[%s] %d histories, retained %.1f bytes/history%n", storage, historyCount,
+			(after - before) / (double)historyCount);
+	}
+
+	/**
+	 * 전체 내역을 한 번 훑어 잔액 합계를 구합니다.
+	 */
+	@Benchmark
+	public long streamAll() {
+		return pointHistoryTable.streamAll().mapToLong(PointHistory::amount).sum();
+	}
+
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	public List<PointHistory> selectAllByUserId() {
+		return pointHistoryTable.selectAllByUserId(ThreadLocalRandom.current().nextLong(1, userCount + 1L));
+	}
+
+	private static long usedMemory() {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+}
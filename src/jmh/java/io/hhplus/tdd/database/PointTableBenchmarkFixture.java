@@ -0,0 +1,29 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.metrics.PointMetrics;
+
+/**
+ * 벤치마크에서 테이블 지연을 제외하고 측정할 때 사용하는 테이블을 만듭니다. 조회/저장시 지연을 주지 않고 지표는 메모리에만 기록하며,
+ * 나머지는 설정 기본값(OBJECT 저장소, shard 1개, 일 단위 30일 집계)을 사용합니다.
+ */
+public final class PointTableBenchmarkFixture {
+
+	private PointTableBenchmarkFixture() {
+	}
+
+	public static UserPointTable userPointTable() {
+		return userPointTable(UserPointStorage.OBJECT);
+	}
+
+	public static UserPointTable userPointTable(UserPointStorage storage) {
+		return new UserPointTable(false, PointMetrics.standalone(), storage);
+	}
+
+	public static PointHistoryTable pointHistoryTable() {
+		return pointHistoryTable(PointHistoryStorage.OBJECT, 1);
+	}
+
+	public static PointHistoryTable pointHistoryTable(PointHistoryStorage storage, int shardCount) {
+		return new PointHistoryTable(false, PointMetrics.standalone(), storage, shardCount, PointStatsInterval.DAY, 30);
+	}
+}
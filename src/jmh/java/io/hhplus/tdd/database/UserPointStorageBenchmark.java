@@ -0,0 +1,69 @@
+package io.hhplus.tdd.database;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.hhplus.tdd.point.UserPoint;
+
+/**
+ * UserPointTable 의 저장 방식(OBJECT/PRIMITIVE)별 조회/저장 처리량과 사용자당 메모리를 비교합니다.<p>
+ * 사용자당 메모리는 준비 단계에서 GC 이후 힙 사용량의 차이로 계산해 출력하고,
+ * GC 횟수와 시간은 gc 프로파일러로 함께 확인합니다.
+ * ex) ./gradlew jmh -PjmhIncludes=UserPointStorageBenchmark -PjmhProfilers=gc
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class UserPointStorageBenchmark {
+
+	@Param({"OBJECT", "PRIMITIVE"})
+	public UserPointStorage storage;
+
+	@Param({"1000000", "10000000"})
+	public int userCount;
+
+	private UserPointTable userPointTable;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		long before = usedMemory();
+		userPointTable = PointTableBenchmarkFixture.userPointTable(storage);
+		for (long id = 1; id <= userCount; id++) {
+			userPointTable.restore(id, id % 100_000, id, 1L);
+		}
+		long after = usedMemory();
+		System.out.printf("%n[%s] %d accounts, retained %.1f bytes/account%n", storage, userCount,
+			(after - before) / (double)userCount);
+	}
+
+	@Benchmark
+	public UserPoint selectById() {
+		return userPointTable.selectById(ThreadLocalRandom.current().nextLong(1, userCount + 1L));
+	}
+
+	@Benchmark
+	public UserPoint insertOrUpdate() {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		return userPointTable.insertOrUpdate(random.nextLong(1, userCount + 1L), random.nextLong(100_000));
+	}
+
+	private static long usedMemory() {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+}
@@ -0,0 +1,65 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.hhplus.tdd.database.PointHistoryEntry;
+
+/**
+ * 내역이 많은 사용자의 PointService.searchPointHistory 응답 시간과 할당량을 측정합니다.<p>
+ * 조회 결과를 받기만 하는 경우와 응답으로 내보내듯 모든 내역을 한 번 읽는 경우를 함께 측정합니다.
+ * ex) ./gradlew jmh -PjmhIncludes=PointHistoryReadBenchmark -PjmhThreads=1 -PjmhProfilers=gc
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class PointHistoryReadBenchmark {
+
+	private static final long USER_ID = 1L;
+
+	@Param({"100000", "1000000"})
+	public int historySize;
+
+	private PointServiceFixture fixture;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		fixture = new PointServiceFixture("lock", false);
+		long now = System.currentTimeMillis();
+		for (int i = 0; i < historySize; i++) {
+			fixture.pointHistoryTable.restore(new PointHistoryEntry(USER_ID, 1000L + i % 2 * 100L, 100L,
+				TransactionType.CHARGE, now + i, i + 1L));
+		}
+	}
+
+	@Benchmark
+	public List<PointHistory> searchPointHistory() {
+		return fixture.pointService.searchPointHistory(USER_ID);
+	}
+
+	@Benchmark
+	public long searchPointHistoryAndRead() {
+		long sum = 0;
+		for (PointHistory pointHistory : fixture.pointService.searchPointHistory(USER_ID)) {
+			sum += pointHistory.amount();
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public List<PointHistory> searchRecentPointHistory() {
+		return fixture.pointService.searchRecentPointHistory(USER_ID, 1000);
+	}
+}
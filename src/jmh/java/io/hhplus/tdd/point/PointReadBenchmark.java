@@ -0,0 +1,75 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.hhplus.tdd.database.PointHistoryEntry;
+
+/**
+ * PointService.searchUserPoint/searchPointHistory 의 응답 시간을 사용자 분포, 사용자당 내역 수, 캐시 사용 여부별로 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class PointReadBenchmark {
+
+	@Param({"UNIFORM", "ZIPF"})
+	public UserKeyDistribution distribution;
+
+	@Param({"10"})
+	public int userCount;
+
+	@Param({"10", "1000", "100000"})
+	public int historySize;
+
+	@Param({"true", "false"})
+	public boolean cacheEnabled;
+
+	private PointServiceFixture fixture;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		fixture = new PointServiceFixture("lock", cacheEnabled);
+		long now = System.currentTimeMillis();
+		for (long id = 1; id <= userCount; id++) {
+			fixture.userPointTable.insertOrUpdate(id, 1000L);
+		}
+		// 사용자들의 내역이 섞여서 저장되도록 번갈아가며 저장한다.
+		for (int i = 0; i < historySize; i++) {
+			for (long id = 1; id <= userCount; id++) {
+				fixture.pointHistoryTable.insert(
+					new PointHistoryEntry(id, 1000L, 1000L, TransactionType.CHARGE, now, i + 1L));
+			}
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class UserKeys {
+		private UserKeyDistribution.Sampler sampler;
+
+		@Setup(Level.Trial)
+		public void setUp(PointReadBenchmark benchmark) {
+			sampler = benchmark.distribution.sampler(benchmark.userCount, Thread.currentThread().threadId());
+		}
+	}
+
+	@Benchmark
+	public UserPoint searchUserPoint(UserKeys userKeys) {
+		return fixture.pointService.searchUserPoint(userKeys.sampler.nextUserId());
+	}
+
+	@Benchmark
+	public List<PointHistory> searchPointHistory(UserKeys userKeys) {
+		return fixture.pointService.searchPointHistory(userKeys.sampler.nextUserId());
+	}
+}
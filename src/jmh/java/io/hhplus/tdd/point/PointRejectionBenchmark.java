@@ -0,0 +1,86 @@
+package io.hhplus.tdd.point;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.hhplus.tdd.error.CustomException;
+
+/**
+ * 잔액 부족으로 거절되는 포인트 사용 요청의 처리 비용을 측정합니다.<p>
+ * 컨트롤러까지 쌓이는 호출 깊이에 따라 stack trace 비용이 달라지므로 stackDepth 만큼 호출을 쌓은 뒤 거절합니다.
+ * 예외 메시지는 ApiControllerAdvice 처럼 응답을 만들 때 한 번 읽습니다.
+ * ex) ./gradlew jmh -PjmhIncludes=PointRejectionBenchmark -PjmhThreads=1 -PjmhProfilers=gc
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class PointRejectionBenchmark {
+
+	private static final long USER_ID = 1L;
+
+	@Param({"10", "150"})
+	public int stackDepth;
+
+	private PointServiceFixture fixture;
+	private UserPoint userPoint;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		fixture = new PointServiceFixture("lock", true);
+		fixture.userPointTable.insertOrUpdate(USER_ID, 500L);
+		userPoint = new UserPoint(USER_ID, 500L, System.currentTimeMillis());
+	}
+
+	/**
+	 * UserPoint.use 가 던진 예외를 잡아 응답 메시지를 만듭니다.
+	 */
+	@Benchmark
+	public String useThrown() {
+		return atDepth(stackDepth, () -> {
+			try {
+				return String.valueOf(userPoint.use(1000L).point());
+			} catch (CustomException e) {
+				return e.getMessage();
+			}
+		});
+	}
+
+	/**
+	 * 예외 없이 거절 결과를 확인합니다. (batch/event-loop 모드의 처리 방식)
+	 */
+	@Benchmark
+	public Object useResult() {
+		return atDepth(stackDepth, () -> {
+			PointResult result = userPoint.tryUse(1000L);
+			return result.isRejected() ? result.rejection() : result.userPoint();
+		});
+	}
+
+	/**
+	 * PointService.use 를 호출해 검증, 락, 테이블 조회, 지표 기록을 거쳐 거절되는 전체 경로입니다.
+	 */
+	@Benchmark
+	public String serviceUseRejected() {
+		return atDepth(stackDepth, () -> {
+			try {
+				return String.valueOf(fixture.pointService.use(USER_ID, 1000L).point());
+			} catch (CustomException e) {
+				return e.getMessage();
+			}
+		});
+	}
+
+	private static <T> T atDepth(int depth, Supplier<T> task) {
+		return depth <= 0 ? task.get() : atDepth(depth - 1, task);
+	}
+}
@@ -0,0 +1,46 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.cache.EvictionPolicy;
+import io.hhplus.tdd.cache.UserPointCache;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.PointTableBenchmarkFixture;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.history.PointHistoryWriter;
+import io.hhplus.tdd.history.SyncPointHistoryWriter;
+import io.hhplus.tdd.lock.LockRegistryType;
+import io.hhplus.tdd.lock.UserLockManager;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.validator.ValidatorImpl;
+import io.hhplus.tdd.wal.NoOpPointWriteAheadLog;
+
+/**
+ * 스프링 컨텍스트 없이 벤치마크용 PointService 를 조립합니다. 테이블 지연(throttle)은 끈 상태로 생성합니다.
+ */
+final class PointServiceFixture {
+
+	final UserPointTable userPointTable = PointTableBenchmarkFixture.userPointTable();
+	final PointHistoryTable pointHistoryTable = PointTableBenchmarkFixture.pointHistoryTable();
+	final PointService pointService;
+
+	PointServiceFixture(String transactionMode, boolean cacheEnabled) {
+		PointHistoryWriter pointHistoryWriter = new SyncPointHistoryWriter(pointHistoryTable,
+			new NoOpPointWriteAheadLog());
+		UserPointCache userPointCache = new UserPointCache(cacheEnabled, 100_000, EvictionPolicy.LRU);
+		UserLockManager userLockManager = new UserLockManager(LockRegistryType.REF_COUNTED, 1024);
+		PointMetrics pointMetrics = PointMetrics.standalone();
+		PointTransactionHandler pointTransactionHandler = switch (transactionMode) {
+			case "lock" -> new LockPointTransactionHandler(pointHistoryWriter, userPointTable, userLockManager,
+				userPointCache);
+			case "batch" -> new BatchPointTransactionHandler(pointHistoryWriter, userPointTable, userLockManager,
+				userPointCache, 100);
+			case "optimistic" -> new OptimisticPointTransactionHandler(pointHistoryWriter, userPointTable,
+				userPointCache, 50);
+			case "event-loop" -> new EventLoopPointTransactionHandler(pointHistoryWriter, userPointTable,
+				userPointCache, 4, 1024);
+			default -> throw new IllegalArgumentException("unknown transaction mode: " + transactionMode);
+		};
+		this.pointService = new PointService(pointHistoryTable, userPointTable, new ValidatorImpl(),
+			pointTransactionHandler, pointHistoryWriter, userPointCache, pointMetrics,
+			new PointReadCoalescer(pointMetrics));
+	}
+}
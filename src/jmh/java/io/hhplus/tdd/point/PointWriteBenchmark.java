@@ -0,0 +1,129 @@
+package io.hhplus.tdd.point;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.hhplus.tdd.error.CustomErrorCode;
+import io.hhplus.tdd.error.CustomException;
+
+/**
+ * PointService.charge/use 의 처리량을 트랜잭션 처리 방식과 사용자 분포별로 측정합니다.<p>
+ * 매 iteration 마다 잔액을 초기화하고, 측정 중 잔액이 부족하거나 한도에 걸리면 반대 방향의 요청으로 잔액을 되돌린 뒤 다시 요청하므로
+ * 측정 대부분이 거절이 아닌 쓰기 경로가 됩니다. 되돌린 횟수(rebalanced)와 그래도 거절된 횟수(rejected)를 보조 지표로 함께 보고합니다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class PointWriteBenchmark {
+
+	private static final long INITIAL_POINT = 50_000L;
+	private static final long CHARGE_AMOUNT = 1L;
+	private static final long USE_AMOUNT = 100L;
+
+	@Param({"lock", "batch", "optimistic", "event-loop"})
+	public String transactionMode;
+
+	@Param({"UNIFORM", "ZIPF"})
+	public UserKeyDistribution distribution;
+
+	@Param({"1000"})
+	public int userCount;
+
+	private PointServiceFixture fixture;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		fixture = new PointServiceFixture(transactionMode, true);
+	}
+
+	@Setup(Level.Iteration)
+	public void resetPoints() {
+		for (long id = 1; id <= userCount; id++) {
+			fixture.userPointTable.insertOrUpdate(id, INITIAL_POINT);
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class UserKeys {
+		private UserKeyDistribution.Sampler sampler;
+
+		@Setup(Level.Trial)
+		public void setUp(PointWriteBenchmark benchmark) {
+			sampler = benchmark.distribution.sampler(benchmark.userCount, Thread.currentThread().threadId());
+		}
+	}
+
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.OPERATIONS)
+	public static class Outcome {
+		public long succeeded;
+		public long rejected;
+		public long rebalanced;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			succeeded = 0;
+			rejected = 0;
+			rebalanced = 0;
+		}
+	}
+
+	@Benchmark
+	public UserPoint charge(UserKeys userKeys, Outcome outcome) {
+		long id = userKeys.sampler.nextUserId();
+		return record(outcome, () -> fixture.pointService.charge(id, CHARGE_AMOUNT),
+			CustomErrorCode.EXCEEDED_CHARGE_POINT, () -> fixture.pointService.use(id, INITIAL_POINT));
+	}
+
+	@Benchmark
+	public UserPoint use(UserKeys userKeys, Outcome outcome) {
+		long id = userKeys.sampler.nextUserId();
+		return record(outcome, () -> fixture.pointService.use(id, USE_AMOUNT),
+			CustomErrorCode.OVER_USED_POINT, () -> fixture.pointService.charge(id, INITIAL_POINT));
+	}
+
+	/**
+	 * 잔액이 한쪽 끝에 닿아 거절되면 rebalance 로 잔액을 되돌린 뒤 한 번 더 요청합니다.
+	 * 사용자마다 수백 번의 요청에 한 번 발생하므로 측정값에 주는 영향은 작습니다.
+	 */
+	private UserPoint record(Outcome outcome, Operation operation, CustomErrorCode exhausted, Operation rebalance) {
+		try {
+			return succeed(outcome, operation);
+		} catch (CustomException e) {
+			if (e.getCustomErrorCode() != exhausted) {
+				outcome.rejected++;
+				return null;
+			}
+		}
+		try {
+			rebalance.run();
+			outcome.rebalanced++;
+			return succeed(outcome, operation);
+		} catch (CustomException e) {
+			// 다른 스레드가 같은 사용자의 잔액을 먼저 바꾼 경우
+			outcome.rejected++;
+			return null;
+		}
+	}
+
+	private UserPoint succeed(Outcome outcome, Operation operation) {
+		UserPoint userPoint = operation.run();
+		outcome.succeeded++;
+		return userPoint;
+	}
+
+	@FunctionalInterface
+	private interface Operation {
+		UserPoint run();
+	}
+}
@@ -0,0 +1,36 @@
+package io.hhplus.tdd.point;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * 벤치마크에서 요청할 사용자 id 의 분포
+ * - UNIFORM : 모든 사용자가 같은 확률로 요청
+ * - ZIPF : 소수의 사용자에게 요청이 몰리는 hot key 분포 (s = 1.0, id 가 작을수록 많이 요청)
+ */
+public enum UserKeyDistribution {
+	UNIFORM, ZIPF;
+
+	Sampler sampler(int userCount, long seed) {
+		SplittableRandom random = new SplittableRandom(seed);
+		if (this == UNIFORM) {
+			return () -> random.nextInt(userCount) + 1L;
+		}
+		double[] cumulative = new double[userCount];
+		double sum = 0;
+		for (int rank = 1; rank <= userCount; rank++) {
+			sum += 1.0 / rank;
+			cumulative[rank - 1] = sum;
+		}
+		double total = sum;
+		return () -> {
+			int index = Arrays.binarySearch(cumulative, random.nextDouble() * total);
+			return (index >= 0 ? index : -index - 1) + 1L;
+		};
+	}
+
+	@FunctionalInterface
+	interface Sampler {
+		long nextUserId();
+	}
+}
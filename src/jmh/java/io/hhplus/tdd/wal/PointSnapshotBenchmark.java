@@ -0,0 +1,117 @@
+package io.hhplus.tdd.wal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import io.hhplus.tdd.database.PointHistoryEntry;
+import io.hhplus.tdd.database.PointTableBenchmarkFixture;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * 사용자 수별 스냅샷 생성 시간과 재시작(복구) 시간을 측정합니다.<p>
+ * 사용자마다 한 건씩 거래한 로그를 미리 만들어 두고,
+ * snapshot 은 로그 전체를 접어 스냅샷을 만드는 시간을, restart 는 스냅샷 유무와 내역 복구 범위에 따른 복구 시간을 측정합니다.
+ * (snapshot 은 이미 스냅샷이 있으면 할 일이 없으므로 withSnapshot=false 인 결과만 의미가 있습니다)
+ * ex) ./gradlew jmh -PjmhIncludes=PointSnapshotBenchmark -PjmhThreads=1
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Threads(1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx12g")
+public class PointSnapshotBenchmark {
+
+	@Param({"1000000", "10000000"})
+	public int userCount;
+
+	@Param({"false", "true"})
+	public boolean withSnapshot;
+
+	@Param({"FULL", "TAIL"})
+	public HistoryRecovery historyRecovery;
+
+	private Path directory;
+	private Path logPath;
+	private Path snapshotPath;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		directory = Files.createTempDirectory("point-snapshot-benchmark");
+		logPath = directory.resolve("point.wal");
+		snapshotPath = directory.resolve("point.snapshot");
+		// 벤치마크 준비 시간을 줄이기 위해 fsync 를 거치지 않고 로그 파일을 직접 만든다.
+		try (FileChannel channel = FileChannel.open(logPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+			ByteBuffer buffer = ByteBuffer.allocate(PointLogRecord.SIZE * 8192);
+			PointLogRecord.writeHeader(buffer);
+			for (long userId = 1; userId <= userCount; userId++) {
+				PointLogRecord.write(buffer,
+					new PointHistoryEntry(userId, userId % 100_000, userId % 100_000, TransactionType.CHARGE, userId,
+						1L));
+				if (buffer.remaining() < PointLogRecord.SIZE) {
+					channel.write(buffer.flip());
+					buffer.clear();
+				}
+			}
+			channel.write(buffer.flip());
+		}
+		if (withSnapshot) {
+			open(HistoryRecovery.TAIL).snapshot();
+		}
+	}
+
+	@Setup(Level.Iteration)
+	public void deleteSnapshotForSnapshotBenchmark() throws IOException {
+		if (!withSnapshot) {
+			Files.deleteIfExists(snapshotPath);
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(snapshotPath);
+		Files.deleteIfExists(logPath);
+		Files.deleteIfExists(directory);
+	}
+
+	@Benchmark
+	public long snapshot() throws IOException {
+		FilePointWriteAheadLog writeAheadLog = open(HistoryRecovery.TAIL);
+		try {
+			return writeAheadLog.snapshot();
+		} finally {
+			writeAheadLog.close();
+		}
+	}
+
+	@Benchmark
+	public UserPointTable restart() throws IOException {
+		UserPointTable userPointTable = PointTableBenchmarkFixture.userPointTable();
+		new FilePointWriteAheadLog(logPath.toString(), snapshotPath.toString(), 0, 0, historyRecovery, userPointTable,
+			PointTableBenchmarkFixture.pointHistoryTable()).close();
+		return userPointTable;
+	}
+
+	private FilePointWriteAheadLog open(HistoryRecovery recovery) throws IOException {
+		return new FilePointWriteAheadLog(logPath.toString(), snapshotPath.toString(), 0, 0, recovery,
+			PointTableBenchmarkFixture.userPointTable(), PointTableBenchmarkFixture.pointHistoryTable());
+	}
+}
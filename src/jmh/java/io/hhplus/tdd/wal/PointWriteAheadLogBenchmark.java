@@ -0,0 +1,82 @@
+package io.hhplus.tdd.wal;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import io.hhplus.tdd.database.PointHistoryEntry;
+import io.hhplus.tdd.database.PointTableBenchmarkFixture;
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * 로그 기록(append + group fsync)의 초당 기록 건수를 측정합니다.<p>
+ * 한 번의 fsync 에 동시에 기다리던 요청이 함께 반영되므로, 처리량은 fsync 한 번에 담기는 레코드 수로 정해집니다.
+ * groupCommitDelayMicros 가 0 이면 fsync 가 끝나자마자 다음 flush 를 시작하고, 0 보다 크면 직전 flush 만큼 레코드가 쌓이기를 기다립니다.
+ * appendAll 은 배치 요청처럼 한 번에 {@value #BATCH_SIZE} 건을 기록하는 경우입니다.
+ * ex) ./gradlew jmh -PjmhIncludes=PointWriteAheadLogBenchmark -PjmhThreads=256
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class PointWriteAheadLogBenchmark {
+
+	private static final int BATCH_SIZE = 16;
+
+	@Param({"0", "300"})
+	public long groupCommitDelayMicros;
+
+	private final AtomicLong userIds = new AtomicLong();
+	private Path directory;
+	private FilePointWriteAheadLog writeAheadLog;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		directory = Files.createTempDirectory("point-wal-benchmark");
+		writeAheadLog = new FilePointWriteAheadLog(directory.resolve("point.wal").toString(),
+			directory.resolve("point.snapshot").toString(), 0, groupCommitDelayMicros, HistoryRecovery.FULL,
+			PointTableBenchmarkFixture.userPointTable(), PointTableBenchmarkFixture.pointHistoryTable());
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		writeAheadLog.close();
+		Files.deleteIfExists(directory.resolve("point.wal"));
+		Files.deleteIfExists(directory);
+	}
+
+	@Benchmark
+	public void append() {
+		writeAheadLog.append(entry());
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH_SIZE)
+	public void appendAll() {
+		List<PointHistoryEntry> entries = new ArrayList<>(BATCH_SIZE);
+		for (int i = 0; i < BATCH_SIZE; i++) {
+			entries.add(entry());
+		}
+		writeAheadLog.appendAll(entries);
+	}
+
+	private PointHistoryEntry entry() {
+		return new PointHistoryEntry(userIds.incrementAndGet(), 1_000L, 1_000L, TransactionType.CHARGE,
+			System.currentTimeMillis(), 1L);
+	}
+}
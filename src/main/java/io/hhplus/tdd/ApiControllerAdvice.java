@@ -1,10 +1,15 @@
 package io.hhplus.tdd;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+import io.hhplus.tdd.error.CustomErrorCode;
 import io.hhplus.tdd.error.CustomException;
 import io.hhplus.tdd.error.ErrorResponse;
 
@@ -21,4 +26,13 @@ class ApiControllerAdvice extends ResponseEntityExceptionHandler {
 			.body(new ErrorResponse(e.getCustomErrorCode().getCode(), e.getMessage()));
 
 	}
+
+	// 요청 본문을 읽지 못한 경우(잘못된 JSON, 알 수 없는 충전/사용 구분 등)는 서버 오류가 아닌 잘못된 요청으로 응답한다.
+	@Override
+	protected ResponseEntity<Object> handleHttpMessageNotReadable(HttpMessageNotReadableException e,
+		HttpHeaders headers, HttpStatusCode status, WebRequest request) {
+		CustomErrorCode customErrorCode = CustomErrorCode.INVALID_REQUEST_BODY;
+		return ResponseEntity.status(customErrorCode.getHttpStatus())
+			.body(new ErrorResponse(customErrorCode.getCode(), customErrorCode.getMessage()));
+	}
 }
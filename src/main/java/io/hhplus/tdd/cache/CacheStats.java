@@ -0,0 +1,9 @@
+package io.hhplus.tdd.cache;
+
+public record CacheStats(
+	long hitCount,
+	long missCount,
+	long evictionCount,
+	long size
+) {
+}
@@ -0,0 +1,10 @@
+package io.hhplus.tdd.cache;
+
+/**
+ * 캐시가 가득 찼을 때 제거할 항목을 고르는 정책
+ * - LRU : 가장 오래 조회되지 않은 항목을 제거
+ * - FIFO : 가장 먼저 저장된 항목을 제거
+ */
+public enum EvictionPolicy {
+	LRU, FIFO
+}
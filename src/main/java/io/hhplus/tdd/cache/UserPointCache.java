@@ -0,0 +1,167 @@
+package io.hhplus.tdd.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongFunction;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.UserPoint;
+
+/**
+ * UserPointTable 앞에 두는 크기 제한 캐시입니다.<p>
+ * 조회 시 캐시에 없으면 테이블에서 읽어와 저장(read-through)하고, 포인트가 변경되면 저장된 결과로 바로 갱신(write-through)합니다.<p>
+ * 캐시는 여러 segment 로 나뉘어 있고 segment 마다 쓰기 버전을 관리합니다.
+ * 테이블을 읽는 동안 같은 segment 에 쓰기가 있었다면 읽어온 값을 캐시에 저장하지 않기 때문에
+ * 마지막으로 반영된 포인트보다 오래된 값을 돌려주지 않습니다.<p>
+ * 쓰기 버전은 캐시를 끈 상태에서도 관리하며, 동시 조회를 합칠 때 조회 결과가 마지막 쓰기 이후의 것인지 판단하는 데 사용합니다.<p>
+ * 캐시는 point.cache.enabled 설정으로 켜며 기본값은 꺼짐입니다. 적중/미스/제거 횟수와 크기는 point.cache.* 지표로 내보냅니다.
+ */
+@Component
+public class UserPointCache {
+
+	private static final int SEGMENT_COUNT = 16;
+
+	private final boolean enabled;
+	private final Segment[] segments = new Segment[SEGMENT_COUNT];
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder evictionCount = new LongAdder();
+
+	public UserPointCache(boolean enabled, int maxSize, EvictionPolicy evictionPolicy) {
+		this(enabled, maxSize, evictionPolicy, PointMetrics.standalone());
+	}
+
+	@Autowired
+	public UserPointCache(@Value("${point.cache.enabled:false}") boolean enabled,
+		@Value("${point.cache.max-size:10000}") int maxSize,
+		@Value("${point.cache.eviction:LRU}") EvictionPolicy evictionPolicy, PointMetrics pointMetrics) {
+		this.enabled = enabled;
+		int segmentMaxSize = Math.max(1, maxSize / SEGMENT_COUNT);
+		for (int i = 0; i < SEGMENT_COUNT; i++) {
+			segments[i] = new Segment(segmentMaxSize, evictionPolicy == EvictionPolicy.LRU, evictionCount);
+		}
+		pointMetrics.registerCache(this);
+	}
+
+	/**
+	 * 캐시된 포인트를 반환하고, 없으면 loader 로 읽어와 캐시에 저장합니다.
+	 */
+	public UserPoint get(long id, LongFunction<UserPoint> loader) {
+		if (!enabled) {
+			return loader.apply(id);
+		}
+		Segment segment = segmentOf(id);
+		long writeVersion;
+		synchronized (segment) {
+			UserPoint cached = segment.get(id);
+			if (cached != null) {
+				hitCount.increment();
+				return cached;
+			}
+			writeVersion = segment.writeVersion;
+		}
+		missCount.increment();
+		UserPoint loaded = loader.apply(id);
+		synchronized (segment) {
+			// 읽는 동안 쓰기가 있었다면 읽어온 값이 오래된 값일 수 있으므로 저장하지 않는다.
+			if (segment.writeVersion == writeVersion) {
+				segment.putIfAbsent(id, loaded);
+			}
+		}
+		return loaded;
+	}
+
+	/**
+	 * 테이블에 반영된 포인트로 캐시를 갱신합니다. 같은 사용자에 대한 호출은 반영된 순서대로 이루어져야 합니다.
+	 */
+	public void put(UserPoint userPoint) {
+		Segment segment = segmentOf(userPoint.id());
+		synchronized (segment) {
+			segment.writeVersion++;
+			if (enabled) {
+				segment.put(userPoint.id(), userPoint);
+			}
+		}
+	}
+
+	/**
+	 * 반영 순서를 보장할 수 없는 쓰기에서 사용하며, 다음 조회는 테이블에서 읽어옵니다.
+	 */
+	public void invalidate(long id) {
+		Segment segment = segmentOf(id);
+		synchronized (segment) {
+			segment.writeVersion++;
+			if (enabled) {
+				segment.remove(id);
+			}
+		}
+	}
+
+	/**
+	 * 사용자가 속한 segment 의 쓰기 버전을 반환합니다. 이후에 put/invalidate 가 호출되면 더 큰 값을 반환합니다.
+	 */
+	public long writeVersion(long id) {
+		Segment segment = segmentOf(id);
+		synchronized (segment) {
+			return segment.writeVersion;
+		}
+	}
+
+	public long hitCount() {
+		return hitCount.sum();
+	}
+
+	public long missCount() {
+		return missCount.sum();
+	}
+
+	public long evictionCount() {
+		return evictionCount.sum();
+	}
+
+	public long size() {
+		long size = 0;
+		for (Segment segment : segments) {
+			synchronized (segment) {
+				size += segment.size();
+			}
+		}
+		return size;
+	}
+
+	public CacheStats stats() {
+		return new CacheStats(hitCount(), missCount(), evictionCount(), size());
+	}
+
+	private Segment segmentOf(long id) {
+		long hash = id * 0x9E3779B97F4A7C15L;
+		return segments[(int)(hash >>> 60) & (SEGMENT_COUNT - 1)];
+	}
+
+	private static final class Segment extends LinkedHashMap<Long, UserPoint> {
+
+		private final int maxSize;
+		private final LongAdder evictionCount;
+		private long writeVersion;
+
+		Segment(int maxSize, boolean accessOrder, LongAdder evictionCount) {
+			super(16, 0.75f, accessOrder);
+			this.maxSize = maxSize;
+			this.evictionCount = evictionCount;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Long, UserPoint> eldest) {
+			if (size() > maxSize) {
+				evictionCount.increment();
+				return true;
+			}
+			return false;
+		}
+	}
+}
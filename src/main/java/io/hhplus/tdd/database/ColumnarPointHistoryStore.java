@@ -0,0 +1,236 @@
+package io.hhplus.tdd.database;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * 내역의 id/userId/amount/updateMillis/version 을 각각의 long 배열에, 거래 종류를 내역당 1 bit 로 나누어 저장하는 저장소입니다.<p>
+ * 내역은 저장된 순서(row)대로 쌓이며, id 는 PointHistoryTable 이 증가하는 순서로 부여하므로 row 가 커질수록 id 도 커집니다.
+ * 사용자별 저장소는 자신의 내역이 저장된 row 번호(int)만 가지고 있습니다.
+ * PointHistory 객체는 조회할 때 필요한 만큼만 만들어집니다.<p>
+ * 한 내역당 배열 칸 5개와 row 번호(약 44 byte)만 사용하므로 객체로 저장할 때 보다 메모리가 적게 들고,
+ * GC 가 따라가야 할 객체가 내역 수와 관계없이 일정합니다.
+ * row 번호를 int 로 저장하기 때문에 최대 Integer.MAX_VALUE 건 까지 저장할 수 있습니다.
+ */
+class ColumnarPointHistoryStore implements PointHistoryStore {
+
+	private final Columns columns = new Columns();
+	private final Map<Long, UserRows> table = new ConcurrentHashMap<>();
+
+	@Override
+	public PointHistory append(long id, long userId, long amount, TransactionType type, long updateMillis,
+		long version) {
+		int row = columns.append(id, userId, amount, type, updateMillis, version);
+		table.computeIfAbsent(userId, key -> new UserRows(columns)).append(row);
+		return new PointHistory(id, userId, amount, type, updateMillis);
+	}
+
+	@Override
+	public PointHistorySequence findByUserId(long userId) {
+		return table.get(userId);
+	}
+
+	@Override
+	public PointHistorySequence all() {
+		return columns;
+	}
+
+	/**
+	 * 모든 사용자의 내역을 고정 크기 chunk 단위의 배열에 저장합니다. 내역이 늘어나도 이미 저장된 데이터를 복사하지 않습니다.
+	 */
+	private static final class Columns implements PointHistorySequence {
+
+		// chunk 의 long 배열(128KB)이 작은 heap 에서도 G1 의 humongous 객체가 되지 않는 크기
+		private static final int CHUNK_SHIFT = 14;
+		private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+		private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+		private volatile Chunk[] chunks = new Chunk[1];
+		// 내역을 chunk 에 기록한 뒤 size 를 갱신하기 때문에, size 를 먼저 읽으면 그 이전의 내역은 항상 보인다.
+		private volatile int size;
+
+		int append(long id, long userId, long amount, TransactionType type, long updateMillis, long version) {
+			int row = size;
+			if (row == Integer.MAX_VALUE) {
+				throw new IllegalStateException("point history capacity exceeded");
+			}
+			int chunkIndex = row >>> CHUNK_SHIFT;
+			Chunk[] current = chunks;
+			if (chunkIndex == current.length) {
+				current = Arrays.copyOf(current, current.length * 2);
+				chunks = current;
+			}
+			if (current[chunkIndex] == null) {
+				current[chunkIndex] = new Chunk();
+			}
+			current[chunkIndex].write(row & CHUNK_MASK, id, userId, amount, type, updateMillis, version);
+			size = row + 1;
+			return row;
+		}
+
+		long idOf(int row) {
+			return chunks[row >>> CHUNK_SHIFT].ids[row & CHUNK_MASK];
+		}
+
+		@Override
+		public long versionOf(int row) {
+			return chunks[row >>> CHUNK_SHIFT].versions[row & CHUNK_MASK];
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public PointHistory get(int row) {
+			Chunk chunk = chunks[row >>> CHUNK_SHIFT];
+			int offset = row & CHUNK_MASK;
+			return new PointHistory(chunk.ids[offset], chunk.userIds[offset], chunk.amounts[offset], chunk.type(offset),
+				chunk.updateMillis[offset]);
+		}
+
+		/**
+		 * row 가 커질수록 id 도 커지므로 PointHistory 를 만들지 않고 id 열에서 이진 탐색합니다.
+		 */
+		@Override
+		public int indexAfter(long cursor, int count) {
+			int low = 0;
+			int high = count;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (idOf(mid) <= cursor) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			return low;
+		}
+
+		@Override
+		public Stream<PointHistory> stream() {
+			return IntStream.range(0, size).mapToObj(this::get);
+		}
+
+		@Override
+		public List<PointHistory> toList() {
+			return materialize(this, size);
+		}
+	}
+
+	private static final class Chunk {
+
+		private final long[] ids = new long[Columns.CHUNK_SIZE];
+		private final long[] userIds = new long[Columns.CHUNK_SIZE];
+		private final long[] amounts = new long[Columns.CHUNK_SIZE];
+		private final long[] updateMillis = new long[Columns.CHUNK_SIZE];
+		private final long[] versions = new long[Columns.CHUNK_SIZE];
+		// USE 인 내역의 bit 를 1 로 표시한다.
+		private final long[] useBits = new long[Columns.CHUNK_SIZE >>> 6];
+
+		void write(int offset, long id, long userId, long amount, TransactionType type, long updateMillis,
+			long version) {
+			ids[offset] = id;
+			userIds[offset] = userId;
+			amounts[offset] = amount;
+			this.updateMillis[offset] = updateMillis;
+			versions[offset] = version;
+			if (type == TransactionType.USE) {
+				useBits[offset >>> 6] |= 1L << offset;
+			}
+		}
+
+		TransactionType type(int offset) {
+			return (useBits[offset >>> 6] & 1L << offset) != 0 ? TransactionType.USE : TransactionType.CHARGE;
+		}
+	}
+
+	/**
+	 * 한 사용자의 내역이 저장된 row 번호 목록입니다. int 배열이라 늘어날 때 두 배 크기로 복사합니다.
+	 */
+	private static final class UserRows implements PointHistorySequence {
+
+		private final Columns columns;
+		// 새 배열을 먼저 공개한 뒤 size 를 갱신하기 때문에, size 를 먼저 읽으면 그 이전의 row 번호는 항상 보인다.
+		private volatile int[] rows = new int[2];
+		private volatile int size;
+
+		UserRows(Columns columns) {
+			this.columns = columns;
+		}
+
+		void append(int row) {
+			int index = size;
+			int[] current = rows;
+			if (index == current.length) {
+				current = Arrays.copyOf(current, current.length * 2);
+				current[index] = row;
+				rows = current;
+			} else {
+				current[index] = row;
+			}
+			size = index + 1;
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public PointHistory get(int index) {
+			return columns.get(rows[index]);
+		}
+
+		@Override
+		public long versionOf(int index) {
+			return columns.versionOf(rows[index]);
+		}
+
+		/**
+		 * row 번호가 증가하는 순서로 저장되므로 PointHistory 를 만들지 않고 row 번호로 이진 탐색합니다.
+		 */
+		@Override
+		public int indexAfter(long cursor, int count) {
+			int[] current = rows;
+			int low = 0;
+			int high = count;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (columns.idOf(current[mid]) <= cursor) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			return low;
+		}
+
+		@Override
+		public Stream<PointHistory> stream() {
+			return IntStream.range(0, size).mapToObj(this::get);
+		}
+
+		@Override
+		public List<PointHistory> toList() {
+			return materialize(this, size);
+		}
+	}
+
+	private static List<PointHistory> materialize(PointHistorySequence sequence, int count) {
+		PointHistory[] result = new PointHistory[count];
+		for (int i = 0; i < count; i++) {
+			result[i] = sequence.get(i);
+		}
+		return Collections.unmodifiableList(Arrays.asList(result));
+	}
+}
@@ -0,0 +1,37 @@
+package io.hhplus.tdd.database;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * 내역마다 PointHistory 객체를 만들어 사용자별 저장소와 전체 저장소에 함께 담아두는 저장소입니다.
+ */
+class ObjectPointHistoryStore implements PointHistoryStore {
+
+	// 전체 내역을 훑지 않도록 사용자별로 내역을 나누어 저장한다.
+	private final Map<Long, PointHistoryChunks> table = new ConcurrentHashMap<>();
+	// 전체 내역을 id 순서대로 내보내기 위한 저장소. 내역 객체는 사용자별 저장소와 공유한다.
+	private final PointHistoryChunks allHistories = new PointHistoryChunks();
+
+	@Override
+	public PointHistory append(long id, long userId, long amount, TransactionType type, long updateMillis,
+		long version) {
+		PointHistory pointHistory = new PointHistory(id, userId, amount, type, updateMillis);
+		table.computeIfAbsent(userId, key -> new PointHistoryChunks()).append(pointHistory, version);
+		allHistories.append(pointHistory, version);
+		return pointHistory;
+	}
+
+	@Override
+	public PointHistorySequence findByUserId(long userId) {
+		return table.get(userId);
+	}
+
+	@Override
+	public PointHistorySequence all() {
+		return allHistories;
+	}
+}
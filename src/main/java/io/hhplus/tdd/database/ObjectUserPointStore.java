@@ -0,0 +1,54 @@
+package io.hhplus.tdd.database;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.hhplus.tdd.point.UserPoint;
+
+class ObjectUserPointStore implements UserPointStore {
+
+	private final Map<Long, VersionedUserPoint> table = new ConcurrentHashMap<>();
+
+	@Override
+	public UserPoint find(long id) {
+		VersionedUserPoint versionedUserPoint = table.get(id);
+		return versionedUserPoint == null ? null : versionedUserPoint.userPoint();
+	}
+
+	@Override
+	public VersionedUserPoint findVersioned(long id) {
+		return table.get(id);
+	}
+
+	@Override
+	public UserPoint put(long id, long point, long updateMillis) {
+		UserPoint userPoint = new UserPoint(id, point, updateMillis);
+		table.compute(id, (key, current) -> new VersionedUserPoint(userPoint, versionOf(current) + 1));
+		return userPoint;
+	}
+
+	@Override
+	public UserPoint put(long id, long point, long updateMillis, long version) {
+		UserPoint userPoint = new UserPoint(id, point, updateMillis);
+		table.put(id, new VersionedUserPoint(userPoint, version));
+		return userPoint;
+	}
+
+	@Override
+	public UserPoint compareAndPut(long id, long expectedVersion, long point, long updateMillis) {
+		UserPoint userPoint = new UserPoint(id, point, updateMillis);
+		VersionedUserPoint result = table.compute(id, (key, current) -> versionOf(current) == expectedVersion
+			? new VersionedUserPoint(userPoint, expectedVersion + 1)
+			: current);
+		return result != null && result.userPoint() == userPoint ? userPoint : null;
+	}
+
+	@Override
+	public int size() {
+		return table.size();
+	}
+
+	private long versionOf(VersionedUserPoint versionedUserPoint) {
+		return versionedUserPoint == null ? 0 : versionedUserPoint.version();
+	}
+}
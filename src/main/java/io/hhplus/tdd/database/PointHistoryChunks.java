@@ -0,0 +1,121 @@
+package io.hhplus.tdd.database;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import io.hhplus.tdd.point.PointHistory;
+
+/**
+ * 한 사용자의 포인트 내역을 저장하는 append-only 저장소입니다.<p>
+ * 고정 크기 chunk 를 이어 붙이는 방식이라 내역이 늘어나도 이미 저장된 데이터를 복사하지 않습니다.
+ * 내역의 version 은 PointHistory 에 담지 않고 같은 위치의 long chunk 에 따로 저장합니다.<p>
+ * append 는 한 번에 하나의 스레드만 호출해야 하며, 조회는 락 없이 size 까지 저장된 내역만 읽습니다.
+ */
+final class PointHistoryChunks implements PointHistorySequence {
+
+	private static final int CHUNK_SHIFT = 5;
+	private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+	private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+	private volatile PointHistory[][] chunks = new PointHistory[1][];
+	private volatile long[][] versions = new long[1][];
+	// 내역을 chunk 에 기록한 뒤 size 를 갱신하기 때문에, size 를 먼저 읽으면 그 이전의 내역은 항상 보인다.
+	private volatile int size;
+
+	void append(PointHistory pointHistory, long version) {
+		int index = size;
+		int chunkIndex = index >>> CHUNK_SHIFT;
+		PointHistory[][] current = chunks;
+		long[][] currentVersions = versions;
+		if (chunkIndex == current.length) {
+			current = Arrays.copyOf(current, current.length * 2);
+			currentVersions = Arrays.copyOf(currentVersions, currentVersions.length * 2);
+			chunks = current;
+			versions = currentVersions;
+		}
+		if (current[chunkIndex] == null) {
+			current[chunkIndex] = new PointHistory[CHUNK_SIZE];
+			currentVersions[chunkIndex] = new long[CHUNK_SIZE];
+		}
+		current[chunkIndex][index & CHUNK_MASK] = pointHistory;
+		currentVersions[chunkIndex][index & CHUNK_MASK] = version;
+		size = index + 1;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public PointHistory get(int index) {
+		return chunks[index >>> CHUNK_SHIFT][index & CHUNK_MASK];
+	}
+
+	@Override
+	public long versionOf(int index) {
+		return versions[index >>> CHUNK_SHIFT][index & CHUNK_MASK];
+	}
+
+	/**
+	 * id 가 cursor 보다 큰 첫 번째 내역의 위치를 반환합니다.<p>
+	 * 내역은 id 가 증가하는 순서로 저장되므로 이진 탐색으로 찾습니다.
+	 */
+	@Override
+	public int indexAfter(long cursor, int count) {
+		int low = 0;
+		int high = count;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (get(mid).id() <= cursor) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	@Override
+	public Stream<PointHistory> stream() {
+		return IntStream.range(0, size).mapToObj(this::get);
+	}
+
+	/**
+	 * 호출 시점까지 저장된 내역을 복사하지 않고 보여주는 읽기 전용 목록을 반환합니다.<p>
+	 * 저장된 내역은 변경되지 않고 chunk 는 교체되지 않으므로, 이후에 저장된 내역은 목록에 포함되지 않습니다.
+	 */
+	@Override
+	public List<PointHistory> toList() {
+		// size 를 먼저 읽어야 size 까지의 내역이 담긴 chunk 가 모두 보인다.
+		int count = size;
+		return new View(chunks, count);
+	}
+
+	private static final class View extends AbstractList<PointHistory> implements RandomAccess {
+
+		private final PointHistory[][] chunks;
+		private final int size;
+
+		View(PointHistory[][] chunks, int size) {
+			this.chunks = chunks;
+			this.size = size;
+		}
+
+		@Override
+		public PointHistory get(int index) {
+			Objects.checkIndex(index, size);
+			return chunks[index >>> CHUNK_SHIFT][index & CHUNK_MASK];
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+	}
+}
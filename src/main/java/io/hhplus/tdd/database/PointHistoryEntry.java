@@ -0,0 +1,19 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * 아직 id 가 부여되지 않은, 저장할 포인트 내역입니다. 내역을 로그와 테이블에 기록할 때 사용합니다.<p>
+ * amount 는 거래 후 잔액이고, transactionAmount 는 요청한 충전/이용 금액입니다. 충전/이용 집계는 transactionAmount 로 합산합니다.<p>
+ * version 은 이 거래로 바뀌는 사용자 포인트의 version 입니다. 한 사용자의 내역은 version 이 증가하는 순서로 기록되므로,
+ * 로그에서 잔액을 복구할 때 version 이 가장 큰 내역의 잔액을 사용합니다.
+ */
+public record PointHistoryEntry(
+	long userId,
+	long amount,
+	long transactionAmount,
+	TransactionType type,
+	long updateMillis,
+	long version
+) {
+}
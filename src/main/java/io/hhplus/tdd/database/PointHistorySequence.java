@@ -0,0 +1,35 @@
+package io.hhplus.tdd.database;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import io.hhplus.tdd.point.PointHistory;
+
+/**
+ * id 가 증가하는 순서로 저장된 포인트 내역 목록입니다.<p>
+ * 저장은 한 번에 하나의 스레드만 하며, 조회는 락 없이 size 까지 저장된 내역만 읽습니다.
+ */
+interface PointHistorySequence {
+
+	int size();
+
+	PointHistory get(int index);
+
+	/**
+	 * index 위치의 내역을 만든 거래로 바뀐 사용자 포인트의 version 을 PointHistory 를 만들지 않고 반환합니다.
+	 */
+	long versionOf(int index);
+
+	/**
+	 * id 가 cursor 보다 큰 첫 번째 내역의 위치를 반환합니다.
+	 */
+	int indexAfter(long cursor, int count);
+
+	/**
+	 * 호출 시점까지 저장된 내역을 복사하지 않고 순서대로 읽는 Stream 을 반환합니다.
+	 */
+	Stream<PointHistory> stream();
+
+	List<PointHistory> toList();
+
+}
@@ -0,0 +1,10 @@
+package io.hhplus.tdd.database;
+
+/**
+ * PointHistoryTable 의 저장 방식
+ * - OBJECT : 내역마다 PointHistory 객체를 만들어 저장
+ * - COLUMNAR : 내역의 필드를 각각의 long 배열에 나누어 저장하고, 조회할 때만 PointHistory 객체를 만든다.
+ */
+public enum PointHistoryStorage {
+	OBJECT, COLUMNAR
+}
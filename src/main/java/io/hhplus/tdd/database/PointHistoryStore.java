@@ -0,0 +1,27 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * PointHistoryTable 의 shard 하나가 내역을 보관하는 저장소입니다. 지연(throttle)과 지표 기록은 PointHistoryTable 이 담당합니다.<p>
+ * 내역 id 는 PointHistoryTable 이 모든 shard 에 걸쳐 증가하도록 부여해 전달하므로, 한 저장소에는 id 가 증가하는 순서로 저장됩니다.
+ */
+interface PointHistoryStore {
+
+	/**
+	 * 한 번에 하나의 스레드만 호출해야 합니다. version 은 내역과 함께 보관하며 PointHistorySequence.versionOf 로 읽습니다.
+	 */
+	PointHistory append(long id, long userId, long amount, TransactionType type, long updateMillis, long version);
+
+	/**
+	 * 내역이 없는 사용자라면 null 을 반환합니다.
+	 */
+	PointHistorySequence findByUserId(long userId);
+
+	/**
+	 * shard 에 속한 모든 사용자의 내역을 id 순서대로 담고 있습니다.
+	 */
+	PointHistorySequence all();
+
+}
@@ -1,38 +1,319 @@
 package io.hhplus.tdd.database;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import io.hhplus.tdd.error.CustomErrorCode;
+import io.hhplus.tdd.error.CustomException;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.metrics.PointTableMethod;
 import io.hhplus.tdd.point.PointHistory;
-import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.PointStats;
 
 /**
- * 해당 Table 클래스는 변경하지 않고 공개된 API 만을 사용해 데이터를 제어합니다.
+ * 포인트 충전/이용 내역을 보관하는 테이블입니다. 내역은 추가만 되며 저장된 내역은 변경하거나 삭제하지 않습니다.<p>
+ * insert / insertAll 은 외부 저장소를 흉내 내는 지연(throttle)을 거치고 처리 시간을 point.table 지표로 기록합니다.
+ * restore 는 로그 복구에만 사용하며 지연이 없습니다. 조회 메서드는 저장과 동시에 호출할 수 있고,
+ * 호출 시점까지 저장된 내역만 읽습니다.<p>
+ * 저장하는 모든 경로(insert / insertAll / restore)는 validate 로 내역을 검증하고, 검증에 실패한 내역은 하나도 저장하지 않습니다.
+ * 내역을 로그에 먼저 기록하는 writer 도 로그에 남기기 전에 같은 validate 를 호출합니다.<p>
+ * 내역은 point.table.history-storage 설정에 따라 객체(OBJECT) 또는 열 단위 배열(COLUMNAR) 저장소에 보관됩니다.<p>
+ * 사용자 id 의 해시로 나눈 point.table.history-shards 개의 shard 가 각자의 저장소와 락을 가지므로,
+ * 서로 다른 shard 에 속한 사용자의 내역은 동시에 저장됩니다. 한 shard 에는 한 번에 하나의 스레드만 저장합니다.<p>
+ * 내역 id 는 모든 shard 가 공유하는 하나의 sequence 에서 shard 락 안에서 부여되므로, shard 수와 관계없이 저장한 순서대로 1 부터 증가합니다.
+ * 전체 내역을 id 순서로 내보낸 뒤 마지막 id 이후부터 이어서 내보낼 수 있습니다.<p>
+ * 내역을 저장할 때 같은 shard 락 안에서 내역의 거래 금액으로 사용자별 충전/이용 집계(PointStats)도 함께 갱신하므로,
+ * 집계는 내역을 다시 읽지 않고 조회하며 로그에서 복구한 내역도 집계에 반영됩니다.
  */
 @Component
 public class PointHistoryTable {
-	private final List<PointHistory> table = new ArrayList<>();
-	private long cursor = 1;
+	private final PointHistoryStore[] shards;
+	// 마지막으로 부여한 내역 id. id 부여와 저장은 같은 shard 락 안에서 이루어진다.
+	private final AtomicLong lastId = new AtomicLong();
+	private final boolean throttled;
+	private final PointMetrics pointMetrics;
+	private final Map<Long, PointStatsAccumulator> stats = new ConcurrentHashMap<>();
+	private final PointStatsInterval statsInterval;
+	private final int statsRetention;
 
-	public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
-		throttle(300L);
-		PointHistory pointHistory = new PointHistory(cursor++, userId, amount, type, updateMillis);
-		table.add(pointHistory);
-		return pointHistory;
+	/**
+	 * throttled 가 false 이면 조회/저장시 지연을 주지 않습니다. (벤치마크에서 테이블 지연을 제외하고 측정할 때 사용)
+	 */
+	public PointHistoryTable(@Value("${point.table.throttle:true}") boolean throttled, PointMetrics pointMetrics,
+		@Value("${point.table.history-storage:OBJECT}") PointHistoryStorage storage,
+		@Value("${point.table.history-shards:1}") int shardCount,
+		@Value("${point.table.stats-interval:DAY}") PointStatsInterval statsInterval,
+		@Value("${point.table.stats-retention:30}") int statsRetention) {
+		if (shardCount < 1) {
+			throw new IllegalArgumentException("history shard count must be positive: " + shardCount);
+		}
+		if (statsRetention < 1) {
+			throw new IllegalArgumentException("stats retention must be positive: " + statsRetention);
+		}
+		this.throttled = throttled;
+		this.pointMetrics = pointMetrics;
+		this.statsInterval = statsInterval;
+		this.statsRetention = statsRetention;
+		this.shards = new PointHistoryStore[shardCount];
+		for (int i = 0; i < shardCount; i++) {
+			shards[i] = switch (storage) {
+				case OBJECT -> new ObjectPointHistoryStore();
+				case COLUMNAR -> new ColumnarPointHistoryStore();
+			};
+		}
+	}
+
+	public PointHistory insert(PointHistoryEntry entry) {
+		validate(entry);
+		long startedAt = System.nanoTime();
+		try {
+			throttle(300L);
+			return append(entry);
+		} finally {
+			pointMetrics.recordTable(PointTableMethod.INSERT, System.nanoTime() - startedAt);
+		}
+	}
+
+	/**
+	 * 여러 내역을 한 번의 지연으로 저장합니다. write-behind 워커가 모아둔 내역을 저장할 때 사용하며, 내역은 목록 순서대로 저장됩니다.
+	 */
+	public List<PointHistory> insertAll(List<PointHistoryEntry> entries) {
+		entries.forEach(this::validate);
+		long startedAt = System.nanoTime();
+		try {
+			throttle(300L);
+			List<PointHistory> histories = new ArrayList<>(entries.size());
+			for (PointHistoryEntry entry : entries) {
+				histories.add(append(entry));
+			}
+			return histories;
+		} finally {
+			pointMetrics.recordTable(PointTableMethod.INSERT_ALL, System.nanoTime() - startedAt);
+		}
+	}
+
+	/**
+	 * 로그/스냅샷에서 읽은 내역을 지연 없이 저장합니다. 애플리케이션 시작 시 복구에만 사용합니다.
+	 */
+	public PointHistory restore(PointHistoryEntry entry) {
+		validate(entry);
+		return append(entry);
+	}
+
+	/**
+	 * 저장할 수 있는 내역인지 검증합니다. 내역의 amount 는 거래 후 잔액이므로 모두 사용한 뒤의 0 은 허용하고 음수만 거부하며,
+	 * 거래 금액(transactionAmount)은 0 보다 커야 합니다.
+	 */
+	public void validate(PointHistoryEntry entry) {
+		if (entry.userId() <= 0) {
+			throw new CustomException(CustomErrorCode.INVALID_ID);
+		}
+		if (entry.type() == null) {
+			throw new CustomException(CustomErrorCode.INVALID_TRANSACTION_TYPE);
+		}
+		if (entry.amount() < 0 || entry.transactionAmount() <= 0) {
+			throw new CustomException(CustomErrorCode.INVALID_AMOUNT);
+		}
+	}
+
+	private PointHistory append(PointHistoryEntry entry) {
+		long userId = entry.userId();
+		PointHistoryStore shard = shardOf(userId);
+		synchronized (shard) {
+			stats.computeIfAbsent(userId, id -> new PointStatsAccumulator(statsInterval, statsRetention))
+				.add(entry.transactionAmount(), entry.type(), entry.updateMillis());
+			return shard.append(lastId.incrementAndGet(), userId, entry.amount(), entry.type(), entry.updateMillis(),
+				entry.version());
+		}
+	}
+
+	/**
+	 * 사용자의 충전/이용 집계를 조회합니다. 내역 수와 관계없이 저장할 때 갱신해 둔 집계만 복사합니다.
+	 */
+	public PointStats selectStatsByUserId(long userId) {
+		PointHistoryStore shard = shardOf(userId);
+		synchronized (shard) {
+			PointStatsAccumulator accumulator = stats.get(userId);
+			return accumulator == null ? PointStats.empty(userId) : accumulator.snapshot(userId);
+		}
 	}
 
 	public List<PointHistory> selectAllByUserId(long userId) {
-		return table.stream().filter(pointHistory -> pointHistory.userId() == userId).toList();
+		PointHistorySequence histories = shardOf(userId).findByUserId(userId);
+		return histories == null ? List.of() : histories.toList();
+	}
+
+	/**
+	 * cursor 보다 큰 id 를 가진 내역 중 updateMillis 가 [fromMillis, toMillis) 에 속하는 내역을 최대 limit 개 조회합니다.<p>
+	 * 사용자의 전체 내역을 목록으로 만들지 않고 cursor 위치부터 필요한 만큼만 읽습니다.
+	 */
+	public List<PointHistory> selectPageByUserId(long userId, long cursor, long fromMillis, long toMillis, int limit) {
+		PointHistorySequence histories = shardOf(userId).findByUserId(userId);
+		if (histories == null) {
+			return List.of();
+		}
+		int size = histories.size();
+		List<PointHistory> page = new ArrayList<>(Math.min(limit, size));
+		for (int i = histories.indexAfter(cursor, size); i < size && page.size() < limit; i++) {
+			PointHistory pointHistory = histories.get(i);
+			if (pointHistory.updateMillis() >= fromMillis && pointHistory.updateMillis() < toMillis) {
+				page.add(pointHistory);
+			}
+		}
+		return page;
+	}
+
+	/**
+	 * 사용자의 가장 최근 내역을 최대 limit 개 조회합니다. 내역은 오래된 순서로 정렬되어 있습니다.
+	 */
+	public List<PointHistory> selectRecentByUserId(long userId, int limit) {
+		return selectRecentByUserId(userId, limit, Long.MAX_VALUE);
+	}
+
+	/**
+	 * version 이 maxVersion 이하인 사용자의 가장 최근 내역을 최대 limit 개 조회합니다. 내역은 오래된 순서로 정렬되어 있습니다.<p>
+	 * 한 사용자의 내역은 version 이 증가하는 순서로 저장되므로, 끝에서부터 maxVersion 보다 큰 내역만 건너뜁니다.
+	 * 조회한 포인트의 version 을 넘기면 그 포인트 이후에 기록된 내역을 제외할 수 있습니다.
+	 */
+	public List<PointHistory> selectRecentByUserId(long userId, int limit, long maxVersion) {
+		PointHistorySequence histories = shardOf(userId).findByUserId(userId);
+		if (histories == null) {
+			return List.of();
+		}
+		int end = histories.size();
+		while (end > 0 && histories.versionOf(end - 1) > maxVersion) {
+			end--;
+		}
+		List<PointHistory> recent = new ArrayList<>(Math.min(limit, end));
+		for (int i = Math.max(0, end - limit); i < end; i++) {
+			recent.add(histories.get(i));
+		}
+		return recent;
+	}
+
+	/**
+	 * 사용자의 내역 수를 반환합니다. 내역을 읽지 않고 저장소의 크기만 확인하므로 지연(throttle)이 없습니다.
+	 */
+	public int countByUserId(long userId) {
+		PointHistorySequence histories = shardOf(userId).findByUserId(userId);
+		return histories == null ? 0 : histories.size();
+	}
+
+	/**
+	 * 호출 시점까지 저장된 사용자의 내역을 목록으로 만들지 않고 순서대로 읽습니다.
+	 */
+	public Stream<PointHistory> streamByUserId(long userId) {
+		PointHistorySequence histories = shardOf(userId).findByUserId(userId);
+		return histories == null ? Stream.empty() : histories.stream();
+	}
+
+	/**
+	 * 호출 시점까지 저장된 모든 사용자의 내역을 id 순서대로 읽습니다.<p>
+	 * shard 마다 id 순서로 저장되어 있으므로 각 shard 의 내역을 id 로 병합합니다.
+	 * 호출 시점의 마지막 id 까지만 읽기 때문에, 내보낸 내역 사이에 아직 저장 중인 id 가 비어 있지 않습니다.
+	 */
+	public Stream<PointHistory> streamAll() {
+		if (shards.length == 1) {
+			return shards[0].all().stream();
+		}
+		// id 부여와 저장이 shard 락 안에서 함께 이루어지므로, 마지막 id 를 먼저 읽은 뒤 shard 락을 거치면
+		// 그 id 까지의 내역은 모두 저장이 끝나 있다.
+		long until = lastId.get();
+		PointHistorySequence[] all = new PointHistorySequence[shards.length];
+		int[] sizes = new int[shards.length];
+		for (int i = 0; i < shards.length; i++) {
+			synchronized (shards[i]) {
+				all[i] = shards[i].all();
+				sizes[i] = all[i].size();
+			}
+		}
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(new IdOrderIterator(all, sizes, until),
+			Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL), false);
+	}
+
+	private PointHistoryStore shardOf(long userId) {
+		return shards[(int)Math.floorMod(UserIdHash.mix(userId), (long)shards.length)];
 	}
 
 	private void throttle(long millis) {
+		if (!throttled) {
+			return;
+		}
 		try {
 			TimeUnit.MILLISECONDS.sleep((long)(Math.random() * millis));
 		} catch (InterruptedException ignored) {
 
 		}
 	}
+
+	/**
+	 * id 순서로 저장된 여러 shard 의 내역을 id 순서로 병합해 until 까지 읽습니다. shard 수가 적으므로 매번 가장 작은 id 를 찾습니다.
+	 */
+	private static final class IdOrderIterator implements Iterator<PointHistory> {
+
+		private final PointHistorySequence[] sequences;
+		private final int[] sizes;
+		private final int[] positions;
+		private final PointHistory[] heads;
+		private final long until;
+
+		IdOrderIterator(PointHistorySequence[] sequences, int[] sizes, long until) {
+			this.sequences = sequences;
+			this.sizes = sizes;
+			this.positions = new int[sequences.length];
+			this.heads = new PointHistory[sequences.length];
+			this.until = until;
+			for (int i = 0; i < sequences.length; i++) {
+				heads[i] = headOf(i);
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			for (PointHistory head : heads) {
+				if (head != null) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		@Override
+		public PointHistory next() {
+			int min = -1;
+			for (int i = 0; i < heads.length; i++) {
+				if (heads[i] != null && (min < 0 || heads[i].id() < heads[min].id())) {
+					min = i;
+				}
+			}
+			if (min < 0) {
+				throw new NoSuchElementException();
+			}
+			PointHistory next = heads[min];
+			positions[min]++;
+			heads[min] = headOf(min);
+			return next;
+		}
+
+		private PointHistory headOf(int index) {
+			if (positions[index] >= sizes[index]) {
+				return null;
+			}
+			PointHistory head = sequences[index].get(positions[index]);
+			return head.id() <= until ? head : null;
+		}
+	}
 }
@@ -0,0 +1,77 @@
+package io.hhplus.tdd.database;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import io.hhplus.tdd.point.PointStats;
+import io.hhplus.tdd.point.PointStatsBucket;
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * 한 사용자의 충전/이용 합계와 시간 구간별 집계를 내역이 저장될 때마다 갱신합니다.<p>
+ * 내역에 기록된 거래 금액(transactionAmount)을 더하므로, 내역 사이에 빠진 거래가 있어도 다른 거래의 금액은 그대로 집계됩니다.
+ * 구간은 사용자마다 최근 retention 개만 남기고, 그보다 오래된 구간의 내역은 전체 합계에만 반영합니다.<p>
+ * add 와 snapshot 은 사용자의 내역 shard 락을 잡은 상태에서 호출해야 합니다.
+ */
+final class PointStatsAccumulator {
+
+	private final PointStatsInterval interval;
+	private final int retention;
+	private final TreeMap<Long, Bucket> buckets = new TreeMap<>();
+	private final Bucket total = new Bucket();
+
+	PointStatsAccumulator(PointStatsInterval interval, int retention) {
+		this.interval = interval;
+		this.retention = retention;
+	}
+
+	void add(long amount, TransactionType type, long updateMillis) {
+		total.add(type, amount);
+		if (interval == PointStatsInterval.NONE) {
+			return;
+		}
+		long startMillis = interval.startOf(updateMillis);
+		Bucket bucket = buckets.get(startMillis);
+		if (bucket == null) {
+			// 남길 수 있는 구간보다 오래된 내역은 구간을 만들지 않는다.
+			if (buckets.size() == retention && startMillis < buckets.firstKey()) {
+				return;
+			}
+			bucket = new Bucket();
+			buckets.put(startMillis, bucket);
+			if (buckets.size() > retention) {
+				buckets.pollFirstEntry();
+			}
+		}
+		bucket.add(type, amount);
+	}
+
+	PointStats snapshot(long userId) {
+		List<PointStatsBucket> result = new ArrayList<>(buckets.size());
+		for (Map.Entry<Long, Bucket> entry : buckets.entrySet()) {
+			Bucket bucket = entry.getValue();
+			result.add(new PointStatsBucket(entry.getKey(), bucket.chargeCount, bucket.totalCharged, bucket.useCount,
+				bucket.totalUsed));
+		}
+		return new PointStats(userId, total.chargeCount, total.totalCharged, total.useCount, total.totalUsed, result);
+	}
+
+	private static final class Bucket {
+		private long chargeCount;
+		private long totalCharged;
+		private long useCount;
+		private long totalUsed;
+
+		void add(TransactionType type, long amount) {
+			if (type == TransactionType.CHARGE) {
+				chargeCount++;
+				totalCharged += amount;
+			} else {
+				useCount++;
+				totalUsed += amount;
+			}
+		}
+	}
+}
@@ -0,0 +1,24 @@
+package io.hhplus.tdd.database;
+
+/**
+ * 사용자별 내역 집계를 나누는 시간 단위 (updateMillis 기준, UTC)
+ * - NONE : 시간 단위로 나누지 않고 전체 합계만 집계
+ * - HOUR : 1 시간 단위로 집계
+ * - DAY : 1 일 단위로 집계
+ */
+public enum PointStatsInterval {
+	NONE(0L), HOUR(60L * 60 * 1000), DAY(24L * 60 * 60 * 1000);
+
+	private final long millis;
+
+	PointStatsInterval(long millis) {
+		this.millis = millis;
+	}
+
+	/**
+	 * updateMillis 가 속한 구간의 시작 시각을 반환합니다.
+	 */
+	long startOf(long updateMillis) {
+		return Math.floorDiv(updateMillis, millis) * millis;
+	}
+}
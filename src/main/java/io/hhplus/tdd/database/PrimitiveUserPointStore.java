@@ -0,0 +1,210 @@
+package io.hhplus.tdd.database;
+
+import java.util.concurrent.locks.StampedLock;
+
+import io.hhplus.tdd.point.UserPoint;
+
+/**
+ * 사용자마다 객체를 만들지 않고 id/point/updateMillis/version 을 각각의 long 배열에 저장하는 open addressing 해시 테이블입니다.<p>
+ * 사용자 한 명당 배열 칸 4개(32 byte)만 사용하며 (적재율 75% 이하), GC 가 따라가야 할 객체가 사용자 수와 관계없이 일정합니다.
+ * UserPoint 객체는 조회 결과를 반환할 때만 만들어집니다.<p>
+ * 동시성은 고정 개수의 segment 로 나누어 처리합니다. 조회는 StampedLock 의 optimistic read 로 락 없이 읽고
+ * 그 사이 변경이 있었을 때만 읽기 락으로 다시 읽으며, 저장은 segment 의 쓰기 락 안에서 이루어집니다.
+ * 사용자 id 는 항상 양수이기 때문에 0 을 빈 칸으로 사용합니다.
+ */
+class PrimitiveUserPointStore implements UserPointStore {
+
+	// segment 를 잘게 나누어 천만 명 규모에서도 배열 하나가 G1 의 humongous 객체(region 크기의 절반 이상)가 되지 않게 한다.
+	private static final int SEGMENT_SHIFT = 10;
+	private static final int SEGMENT_COUNT = 1 << SEGMENT_SHIFT;
+	private static final int INITIAL_SEGMENT_CAPACITY = 1 << 4;
+
+	private final Segment[] segments = new Segment[SEGMENT_COUNT];
+
+	PrimitiveUserPointStore() {
+		for (int i = 0; i < SEGMENT_COUNT; i++) {
+			segments[i] = new Segment();
+		}
+	}
+
+	@Override
+	public UserPoint find(long id) {
+		long hash = UserIdHash.mix(id);
+		Segment segment = segmentOf(hash);
+		long stamp = segment.lock.tryOptimisticRead();
+		Slots slots = segment.slots;
+		int slot = slots.slotOf(id, hash);
+		long point = slots.points[slot];
+		long updateMillis = slots.updateMillis[slot];
+		boolean found = slots.ids[slot] == id;
+		if (!segment.lock.validate(stamp)) {
+			stamp = segment.lock.readLock();
+			try {
+				slots = segment.slots;
+				slot = slots.slotOf(id, hash);
+				point = slots.points[slot];
+				updateMillis = slots.updateMillis[slot];
+				found = slots.ids[slot] == id;
+			} finally {
+				segment.lock.unlockRead(stamp);
+			}
+		}
+		return found ? new UserPoint(id, point, updateMillis) : null;
+	}
+
+	@Override
+	public VersionedUserPoint findVersioned(long id) {
+		long hash = UserIdHash.mix(id);
+		Segment segment = segmentOf(hash);
+		long stamp = segment.lock.readLock();
+		try {
+			Slots slots = segment.slots;
+			int slot = slots.slotOf(id, hash);
+			if (slots.ids[slot] != id) {
+				return null;
+			}
+			return new VersionedUserPoint(new UserPoint(id, slots.points[slot], slots.updateMillis[slot]),
+				slots.versions[slot]);
+		} finally {
+			segment.lock.unlockRead(stamp);
+		}
+	}
+
+	@Override
+	public UserPoint put(long id, long point, long updateMillis) {
+		long hash = UserIdHash.mix(id);
+		Segment segment = segmentOf(hash);
+		long stamp = segment.lock.writeLock();
+		try {
+			int slot = segment.slotForWrite(id, hash);
+			segment.slots.write(slot, point, updateMillis, segment.slots.versions[slot] + 1);
+		} finally {
+			segment.lock.unlockWrite(stamp);
+		}
+		return new UserPoint(id, point, updateMillis);
+	}
+
+	@Override
+	public UserPoint put(long id, long point, long updateMillis, long version) {
+		long hash = UserIdHash.mix(id);
+		Segment segment = segmentOf(hash);
+		long stamp = segment.lock.writeLock();
+		try {
+			int slot = segment.slotForWrite(id, hash);
+			segment.slots.write(slot, point, updateMillis, version);
+		} finally {
+			segment.lock.unlockWrite(stamp);
+		}
+		return new UserPoint(id, point, updateMillis);
+	}
+
+	@Override
+	public UserPoint compareAndPut(long id, long expectedVersion, long point, long updateMillis) {
+		long hash = UserIdHash.mix(id);
+		Segment segment = segmentOf(hash);
+		long stamp = segment.lock.writeLock();
+		try {
+			Slots slots = segment.slots;
+			int slot = slots.slotOf(id, hash);
+			long version = slots.ids[slot] == id ? slots.versions[slot] : 0;
+			if (version != expectedVersion) {
+				return null;
+			}
+			slot = segment.slotForWrite(id, hash);
+			segment.slots.write(slot, point, updateMillis, expectedVersion + 1);
+		} finally {
+			segment.lock.unlockWrite(stamp);
+		}
+		return new UserPoint(id, point, updateMillis);
+	}
+
+	@Override
+	public int size() {
+		int size = 0;
+		for (Segment segment : segments) {
+			long stamp = segment.lock.readLock();
+			try {
+				size += segment.size;
+			} finally {
+				segment.lock.unlockRead(stamp);
+			}
+		}
+		return size;
+	}
+
+	private Segment segmentOf(long hash) {
+		// 칸을 고를 때는 하위 비트를 쓰므로 segment 는 상위 비트로 고른다.
+		return segments[(int)(hash >>> (Long.SIZE - SEGMENT_SHIFT))];
+	}
+
+	private static final class Segment {
+		private final StampedLock lock = new StampedLock();
+		// 크기를 늘릴 때는 새 배열을 만들어 교체하기 때문에, optimistic read 중인 스레드는 이전 배열을 끝까지 안전하게 읽는다.
+		private volatile Slots slots = new Slots(INITIAL_SEGMENT_CAPACITY);
+		private int size;
+
+		/**
+		 * 쓰기 락을 보유한 상태에서만 호출됩니다. 새 사용자라면 칸을 할당하고 필요하면 크기를 늘립니다.
+		 */
+		int slotForWrite(long id, long hash) {
+			int slot = slots.slotOf(id, hash);
+			if (slots.ids[slot] == id) {
+				return slot;
+			}
+			if ((size + 1) * 4L > slots.ids.length * 3L) {
+				slots = slots.resize(slots.ids.length * 2);
+				slot = slots.slotOf(id, hash);
+			}
+			slots.ids[slot] = id;
+			size++;
+			return slot;
+		}
+	}
+
+	private static final class Slots {
+		private final long[] ids;
+		private final long[] points;
+		private final long[] updateMillis;
+		private final long[] versions;
+
+		Slots(int capacity) {
+			ids = new long[capacity];
+			points = new long[capacity];
+			updateMillis = new long[capacity];
+			versions = new long[capacity];
+		}
+
+		/**
+		 * id 가 저장된 칸, 없다면 저장될 빈 칸을 반환합니다. 적재율이 75% 이하라 빈 칸이 항상 있습니다.
+		 */
+		int slotOf(long id, long hash) {
+			int mask = ids.length - 1;
+			int slot = (int)hash & mask;
+			while (ids[slot] != 0 && ids[slot] != id) {
+				slot = (slot + 1) & mask;
+			}
+			return slot;
+		}
+
+		void write(int slot, long point, long updateMillis, long version) {
+			points[slot] = point;
+			this.updateMillis[slot] = updateMillis;
+			versions[slot] = version;
+		}
+
+		Slots resize(int capacity) {
+			Slots resized = new Slots(capacity);
+			for (int slot = 0; slot < ids.length; slot++) {
+				if (ids[slot] != 0) {
+					long hash = UserIdHash.mix(ids[slot]);
+					int newSlot = resized.slotOf(ids[slot], hash);
+					resized.ids[newSlot] = ids[slot];
+					resized.points[newSlot] = points[slot];
+					resized.updateMillis[newSlot] = updateMillis[slot];
+					resized.versions[newSlot] = versions[slot];
+				}
+			}
+			return resized;
+		}
+	}
+}
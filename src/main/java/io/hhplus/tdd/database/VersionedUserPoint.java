@@ -0,0 +1,13 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.UserPoint;
+
+/**
+ * 포인트가 변경될 때마다 1씩 증가하는 version 을 함께 가진 UserPoint 입니다.
+ * 한 번도 저장되지 않은 사용자의 version 은 0 입니다.
+ */
+public record VersionedUserPoint(
+	UserPoint userPoint,
+	long version
+) {
+}
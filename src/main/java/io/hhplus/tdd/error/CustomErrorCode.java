@@ -12,7 +12,17 @@ public enum CustomErrorCode {
 	INVALID_AMOUNT(HttpStatus.BAD_REQUEST, "400", "입력한 포인트 값은 유효하지 않습니다."),
 	EXCEEDED_CHARGE_POINT(HttpStatus.BAD_REQUEST, "400", "보유할 수 있는 포인트는 10만 포인트까지 입니다. 해당 충전 후 예상 포인트: %d"),
 	OVER_USED_POINT(HttpStatus.BAD_REQUEST, "400", "보유한 포인트 이상의 사용 요청입니다. 현재 보유한 포인트 %d"),
-	INVALID_USE_AMOUNT(HttpStatus.BAD_REQUEST, "400", "포인트 사용시 100 포인트 이상을 사용해야 합니다.");
+	INVALID_USE_AMOUNT(HttpStatus.BAD_REQUEST, "400", "포인트 사용시 100 포인트 이상을 사용해야 합니다."),
+	INVALID_LIMIT(HttpStatus.BAD_REQUEST, "400", "한 번에 조회할 수 있는 내역은 1건 이상 %d건 이하입니다."),
+	INVALID_TIME_RANGE(HttpStatus.BAD_REQUEST, "400", "조회 시작 시각은 종료 시각보다 이전이어야 합니다."),
+	INVALID_BULK_SIZE(HttpStatus.BAD_REQUEST, "400", "한 번에 처리할 수 있는 요청은 1건 이상 %d건 이하입니다."),
+	INVALID_TRANSACTION_TYPE(HttpStatus.BAD_REQUEST, "400", "충전/사용 구분이 올바르지 않습니다."),
+	INVALID_REQUEST_BODY(HttpStatus.BAD_REQUEST, "400", "요청 본문의 형식이 올바르지 않습니다."),
+	CONCURRENT_UPDATE_CONFLICT(HttpStatus.CONFLICT, "409", "동시에 들어온 요청이 많아 포인트를 변경하지 못했습니다. 잠시 후 다시 시도해주세요."),
+	SERVICE_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "503", "처리 대기 중인 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+	HISTORY_WRITE_FAILED(HttpStatus.SERVICE_UNAVAILABLE, "503", "포인트 내역을 저장하지 못하고 있습니다. 잠시 후 다시 시도해주세요."),
+	INVALID_IDEMPOTENCY_KEY(HttpStatus.BAD_REQUEST, "400", "Idempotency-Key 는 공백이 아닌 %d자 이하의 값이어야 합니다."),
+	IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "422", "이미 다른 요청에 사용된 Idempotency-Key 입니다.");
 
 	private final HttpStatus httpStatus;
 	private final String code;
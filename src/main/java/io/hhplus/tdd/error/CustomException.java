@@ -2,17 +2,35 @@ package io.hhplus.tdd.error;
 
 import lombok.Getter;
 
-@Getter
+/**
+ * 에러 코드로 요청 처리 실패를 알리는 예외입니다.<p>
+ * 잔액 부족처럼 요청 값 때문에 거절되는 경우(4xx)는 자주 발생하는 정상적인 흐름이므로 stack trace 를 만들지 않습니다.
+ * 서버 오류(5xx)는 원인을 추적할 수 있도록 stack trace 를 남깁니다.<p>
+ * 메시지는 getMessage 가 처음 호출될 때 포맷합니다.
+ */
 public class CustomException extends RuntimeException {
-	CustomErrorCode customErrorCode;
+	@Getter
+	private final CustomErrorCode customErrorCode;
+	private final Object[] args;
+	private String message;
 
 	public CustomException(CustomErrorCode customErrorCode) {
-		super(customErrorCode.getMessage());
-		this.customErrorCode = customErrorCode;
+		this(customErrorCode, (Object[])null);
 	}
 
 	public CustomException(CustomErrorCode customErrorCode, Object... args) {
-		super(String.format(customErrorCode.getMessage(), args));
+		super(null, null, false, !customErrorCode.getHttpStatus().is4xxClientError());
 		this.customErrorCode = customErrorCode;
+		this.args = args;
+	}
+
+	@Override
+	public String getMessage() {
+		String formatted = message;
+		if (formatted == null) {
+			formatted = args == null ? customErrorCode.getMessage() : String.format(customErrorCode.getMessage(), args);
+			message = formatted;
+		}
+		return formatted;
 	}
 }
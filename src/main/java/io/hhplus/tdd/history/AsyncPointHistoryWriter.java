@@ -0,0 +1,262 @@
+package io.hhplus.tdd.history;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import io.hhplus.tdd.database.PointHistoryEntry;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.error.CustomErrorCode;
+import io.hhplus.tdd.error.CustomException;
+import io.hhplus.tdd.wal.PointWriteAheadLog;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 포인트 내역을 write-behind 방식으로 저장합니다.<p>
+ * 요청 스레드는 제한된 크기의 대기열에 내역을 넣고 바로 반환하며, 전용 워커 스레드가 대기열을 batch 단위로 꺼내
+ * PointHistoryTable.insertAll 로 한 번에 저장합니다. 테이블 지연은 내역마다가 아니라 batch 마다 한 번 발생합니다.<p>
+ * 대기열이 가득 차면 write 를 호출한 스레드가 빈 자리가 생길 때까지 기다리는 방식으로 backpressure 를 적용합니다.<p>
+ * 로그(PointWriteAheadLog)에는 대기열에 넣기 전에 요청 스레드에서 기록하므로, 테이블 반영 전에 종료되어도 재시작 시 복구됩니다.<p>
+ * 저장에 실패한 batch 는 버리지 않고 간격을 늘려가며 다시 저장하며, 저장될 때까지 반영된 내역 수에 포함하지 않습니다.
+ * 다시 저장하는 동안에는 isFailing 이 true 이고 flush 는 기다리지 않고 HISTORY_WRITE_FAILED 예외를 던집니다.
+ * 종료 중에는 정해진 횟수만 다시 시도하고, 그래도 실패한 내역은 로그에서 복구되도록 남겨둡니다.
+ */
+@Component
+@ConditionalOnProperty(name = "point.history.write-mode", havingValue = "async")
+public class AsyncPointHistoryWriter implements PointHistoryWriter {
+
+	private static final Logger log = LoggerFactory.getLogger(AsyncPointHistoryWriter.class);
+	private static final long POLL_TIMEOUT_MILLIS = 100L;
+	private static final long MAX_RETRY_BACKOFF_MILLIS = 1_000L;
+	private static final int SHUTDOWN_RETRIES = 3;
+
+	private final PointHistoryTable pointHistoryTable;
+	private final PointWriteAheadLog pointWriteAheadLog;
+	private final BlockingQueue<PointHistoryEntry> queue;
+	private final int batchSize;
+	private final Thread worker;
+	// 대기열에 넣기 시작한 내역 수와 테이블에 반영된 내역 수. flush 는 두 값을 비교해 완료 여부를 판단한다.
+	private final AtomicLong requestedCount = new AtomicLong();
+	// 가상 스레드가 기다리는 동안 carrier 스레드를 점유하지 않도록 synchronized 대신 ReentrantLock 을 사용한다.
+	private final ReentrantLock writtenLock = new ReentrantLock();
+	private final Condition written = writtenLock.newCondition();
+	private long writtenCount;
+	// 사용자별로 대기열에 넣었지만 아직 테이블에 반영되지 않은 내역 수. flush(userId) 는 이 값이 사라질 때까지 기다린다.
+	private final Map<Long, Long> pendingByUser = new ConcurrentHashMap<>();
+	private volatile boolean running = true;
+	// 마지막 저장 실패. 다시 저장에 성공하면 비운다.
+	private volatile RuntimeException failure;
+
+	public AsyncPointHistoryWriter(PointHistoryTable pointHistoryTable, PointWriteAheadLog pointWriteAheadLog,
+		@Value("${point.history.queue-capacity:10000}") int queueCapacity,
+		@Value("${point.history.batch-size:100}") int batchSize) {
+		this.pointHistoryTable = pointHistoryTable;
+		this.pointWriteAheadLog = pointWriteAheadLog;
+		this.queue = new ArrayBlockingQueue<>(queueCapacity);
+		this.batchSize = batchSize;
+		this.worker = new Thread(this::drain, "point-history-writer");
+		this.worker.setDaemon(true);
+		this.worker.start();
+	}
+
+	@Override
+	public void write(PointHistoryEntry entry) {
+		pointHistoryTable.validate(entry);
+		pointWriteAheadLog.append(entry);
+		if (!running) {
+			// 종료 이후에 들어온 내역은 유실되지 않도록 바로 저장한다.
+			pointHistoryTable.insert(entry);
+			return;
+		}
+		enqueue(List.of(entry));
+	}
+
+	@Override
+	public void writeAll(List<PointHistoryEntry> entries) {
+		if (entries.isEmpty()) {
+			return;
+		}
+		entries.forEach(pointHistoryTable::validate);
+		pointWriteAheadLog.appendAll(entries);
+		if (!running) {
+			pointHistoryTable.insertAll(entries);
+			return;
+		}
+		enqueue(entries);
+	}
+
+	@Override
+	public void flush() {
+		long target = requestedCount.get();
+		writtenLock.lock();
+		try {
+			while (writtenCount < target) {
+				throwIfFailing();
+				written.await();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			writtenLock.unlock();
+		}
+	}
+
+	@Override
+	public void flush(long userId) {
+		writtenLock.lock();
+		try {
+			while (pendingByUser.containsKey(userId)) {
+				throwIfFailing();
+				written.await();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			writtenLock.unlock();
+		}
+	}
+
+	/**
+	 * 애플리케이션 종료 시 대기열에 남은 내역을 모두 저장한 뒤 워커를 종료합니다.
+	 */
+	@PreDestroy
+	public void shutdown() {
+		running = false;
+		try {
+			worker.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	public int pendingCount() {
+		return queue.size();
+	}
+
+	/**
+	 * 저장에 실패한 batch 를 다시 저장하고 있는지 반환합니다.
+	 */
+	public boolean isFailing() {
+		return failure != null;
+	}
+
+	private void throwIfFailing() {
+		if (failure != null) {
+			throw new CustomException(CustomErrorCode.HISTORY_WRITE_FAILED);
+		}
+	}
+
+	private void enqueue(List<PointHistoryEntry> entries) {
+		requestedCount.addAndGet(entries.size());
+		for (PointHistoryEntry entry : entries) {
+			pendingByUser.merge(entry.userId(), 1L, Long::sum);
+		}
+		boolean interrupted = false;
+		for (PointHistoryEntry entry : entries) {
+			while (true) {
+				try {
+					queue.put(entry);
+					break;
+				} catch (InterruptedException e) {
+					// 이미 요청 수에 포함된 내역이므로 대기열에 넣을 때까지 재시도한다.
+					interrupted = true;
+				}
+			}
+		}
+		if (!running) {
+			// 대기열에 넣는 사이 종료되어 워커가 이미 끝났을 수 있으므로, 남은 내역을 요청 스레드에서 직접 저장한다.
+			drainRemaining();
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void drain() {
+		List<PointHistoryEntry> batch = new ArrayList<>(batchSize);
+		while (running || !queue.isEmpty()) {
+			try {
+				PointHistoryEntry first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+				if (first == null) {
+					continue;
+				}
+				batch.add(first);
+				queue.drainTo(batch, batchSize - 1);
+				writeBatch(batch);
+			} catch (InterruptedException e) {
+				// 종료 요청 전까지는 워커를 멈추지 않는다.
+			} finally {
+				batch.clear();
+			}
+		}
+	}
+
+	/**
+	 * 워커가 종료된 뒤 대기열에 들어온 내역을 저장합니다. poll 은 원자적이므로 워커나 다른 요청 스레드와 겹쳐도 한 번씩만 저장됩니다.
+	 */
+	private void drainRemaining() {
+		List<PointHistoryEntry> batch = new ArrayList<>(batchSize);
+		while (queue.drainTo(batch, batchSize) > 0) {
+			writeBatch(batch);
+			batch.clear();
+		}
+	}
+
+	private void writeBatch(List<PointHistoryEntry> batch) {
+		for (int attempt = 1; ; attempt++) {
+			try {
+				pointHistoryTable.insertAll(batch);
+				failure = null;
+				break;
+			} catch (RuntimeException e) {
+				log.error("포인트 내역 저장에 실패했습니다. attempt={}, size={}, first={}", attempt, batch.size(),
+					batch.get(0), e);
+				markFailing(e);
+				if (!running && attempt > SHUTDOWN_RETRIES) {
+					// 로그에는 기록되어 있으므로 재시작하면 복구된다.
+					log.error("종료 중이라 포인트 내역 저장을 멈춥니다. 재시작 시 로그에서 복구됩니다. size={}", batch.size());
+					break;
+				}
+				LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(
+					Math.min(MAX_RETRY_BACKOFF_MILLIS, 10L << Math.min(attempt, 10))));
+			}
+		}
+		writtenLock.lock();
+		try {
+			for (PointHistoryEntry entry : batch) {
+				pendingByUser.computeIfPresent(entry.userId(), (userId, pending) -> pending == 1L ? null : pending - 1);
+			}
+			writtenCount += batch.size();
+			written.signalAll();
+		} finally {
+			writtenLock.unlock();
+		}
+	}
+
+	/**
+	 * 실패를 기록하고 기다리던 flush 를 깨워 예외를 받게 합니다.
+	 */
+	private void markFailing(RuntimeException e) {
+		writtenLock.lock();
+		try {
+			failure = e;
+			written.signalAll();
+		} finally {
+			writtenLock.unlock();
+		}
+	}
+}
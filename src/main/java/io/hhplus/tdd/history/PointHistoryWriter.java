@@ -0,0 +1,35 @@
+package io.hhplus.tdd.history;
+
+import java.util.List;
+
+import io.hhplus.tdd.database.PointHistoryEntry;
+
+/**
+ * 포인트 충전/사용 내역을 PointHistoryTable 에 기록합니다.<p>
+ * point.history.write-mode 설정으로 요청 스레드에서 바로 저장(sync)할지,
+ * 별도 워커에서 모아서 저장(async)할지 선택합니다.<p>
+ * 내역은 로그에 기록하기 전에 PointHistoryTable.validate 로 검증하며, 조회할 때는 저장된 내역을 다시 검증하지 않습니다.<p>
+ * 트랜잭션 처리기는 포인트를 변경하기 전에 write 를 호출합니다. write 가 반환되면 내역이 로그에 기록된 것이므로,
+ * 포인트 변경 도중 종료되어도 재시작 시 복구되고, write 가 실패하면 포인트는 변경되지 않습니다.
+ */
+public interface PointHistoryWriter {
+
+	void write(PointHistoryEntry entry);
+
+	/**
+	 * 한 사용자의 여러 거래 내역을 목록 순서대로 기록합니다. 모든 내역을 먼저 검증한 뒤 로그에 한 번에 기록하고 한 번에 저장하므로,
+	 * 예외가 발생하면 어떤 내역도 기록되지 않은 것이고 반환되면 모든 내역이 로그에 기록된 것입니다.
+	 */
+	void writeAll(List<PointHistoryEntry> entries);
+
+	/**
+	 * 호출 시점까지 요청된 내역이 모두 테이블에 저장될 때까지 기다립니다.
+	 */
+	void flush();
+
+	/**
+	 * 호출 시점까지 요청된 사용자의 내역이 모두 테이블에 저장될 때까지 기다립니다. 다른 사용자의 내역은 기다리지 않습니다.
+	 */
+	void flush(long userId);
+
+}
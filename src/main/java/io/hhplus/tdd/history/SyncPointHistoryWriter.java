@@ -0,0 +1,47 @@
+package io.hhplus.tdd.history;
+
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import io.hhplus.tdd.database.PointHistoryEntry;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.wal.PointWriteAheadLog;
+import lombok.RequiredArgsConstructor;
+
+@Component
+@ConditionalOnProperty(name = "point.history.write-mode", havingValue = "sync", matchIfMissing = true)
+@RequiredArgsConstructor
+public class SyncPointHistoryWriter implements PointHistoryWriter {
+
+	private final PointHistoryTable pointHistoryTable;
+	private final PointWriteAheadLog pointWriteAheadLog;
+
+	@Override
+	public void write(PointHistoryEntry entry) {
+		pointHistoryTable.validate(entry);
+		pointWriteAheadLog.append(entry);
+		pointHistoryTable.insert(entry);
+	}
+
+	@Override
+	public void writeAll(List<PointHistoryEntry> entries) {
+		if (entries.isEmpty()) {
+			return;
+		}
+		entries.forEach(pointHistoryTable::validate);
+		pointWriteAheadLog.appendAll(entries);
+		pointHistoryTable.insertAll(entries);
+	}
+
+	@Override
+	public void flush() {
+		// 요청 스레드에서 바로 저장하므로 기다릴 내역이 없다.
+	}
+
+	@Override
+	public void flush(long userId) {
+		// 요청 스레드에서 바로 저장하므로 기다릴 내역이 없다.
+	}
+}
@@ -0,0 +1,189 @@
+package io.hhplus.tdd.idempotency;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.hhplus.tdd.error.CustomErrorCode;
+import io.hhplus.tdd.error.CustomException;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.validator.ValidatorImpl;
+
+/**
+ * Idempotency-Key 로 충전/사용 요청의 결과를 기억해 두는 크기 제한 저장소입니다.<p>
+ * 같은 사용자가 같은 키로 다시 요청하면 처음 요청의 결과(UserPoint)를 그대로 반환하므로 재시도가 락과 테이블을 거치지 않습니다.
+ * 처음 요청이 아직 처리 중이라면 중복 요청은 그 결과를 최대 point.idempotency.await-timeout-millis 동안 기다리고,
+ * 그때까지 끝나지 않으면 SERVICE_BUSY 를 던집니다. (처음 요청은 계속 처리되므로 이후 재시도는 그 결과를 받습니다.)<p>
+ * 성공한 결과만 ttl 동안 기억하며, 실패한 요청은 기억하지 않아 다음 재시도가 다시 처리합니다.
+ * (처리 중에 기다리던 중복 요청은 같은 예외를 받습니다.)
+ * 같은 키로 충전/사용 구분이나 금액이 다른 요청이 오면 IDEMPOTENCY_KEY_REUSED 예외를 던집니다.<p>
+ * 저장소는 여러 segment 로 나뉘어 있고, segment 마다 오래된 순서대로 만료된 항목과 최대 크기를 넘는 항목을 제거합니다.
+ * 처리 중인 항목은 제거하지 않으므로, 처리 중인 요청이 많으면 segment 가 잠시 최대 크기를 넘을 수 있습니다.
+ * (처리 중인 항목을 제거하면 같은 키의 재시도가 한 번 더 처리됩니다.)
+ */
+@Component
+public class PointIdempotencyStore {
+
+	private static final int SEGMENT_COUNT = 16;
+
+	private final ValidatorImpl validator;
+	private final long ttlMillis;
+	private final long awaitTimeoutMillis;
+	private final LongSupplier clock;
+	private final Segment[] segments = new Segment[SEGMENT_COUNT];
+
+	@Autowired
+	public PointIdempotencyStore(ValidatorImpl validator,
+		@Value("${point.idempotency.max-size:100000}") int maxSize,
+		@Value("${point.idempotency.ttl-millis:600000}") long ttlMillis,
+		@Value("${point.idempotency.await-timeout-millis:10000}") long awaitTimeoutMillis) {
+		this(validator, maxSize, ttlMillis, awaitTimeoutMillis, System::currentTimeMillis);
+	}
+
+	PointIdempotencyStore(ValidatorImpl validator, int maxSize, long ttlMillis, LongSupplier clock) {
+		this(validator, maxSize, ttlMillis, 10_000L, clock);
+	}
+
+	PointIdempotencyStore(ValidatorImpl validator, int maxSize, long ttlMillis, long awaitTimeoutMillis,
+		LongSupplier clock) {
+		this.validator = validator;
+		this.ttlMillis = ttlMillis;
+		this.awaitTimeoutMillis = awaitTimeoutMillis;
+		this.clock = clock;
+		int segmentMaxSize = Math.max(1, maxSize / SEGMENT_COUNT);
+		for (int i = 0; i < SEGMENT_COUNT; i++) {
+			segments[i] = new Segment(segmentMaxSize);
+		}
+	}
+
+	/**
+	 * key 가 null 이면 operation 을 그대로 실행합니다.
+	 */
+	public UserPoint execute(long userId, String key, TransactionType type, long amount,
+		Supplier<UserPoint> operation) {
+		if (key == null) {
+			return operation.get();
+		}
+		validator.invalidIdempotencyKey(key);
+		RequestKey requestKey = new RequestKey(userId, key);
+		Segment segment = segmentOf(requestKey);
+		long now = clock.getAsLong();
+		Entry created = new Entry(type, amount, now + ttlMillis);
+		Entry existing;
+		synchronized (segment) {
+			segment.removeExpired(now);
+			existing = segment.get(requestKey);
+			if (existing != null && existing.isExpired(now)) {
+				// 다시 넣은 항목이 맨 뒤에 오도록 제거한 뒤 넣는다.
+				segment.remove(requestKey);
+				existing = null;
+			}
+			if (existing == null) {
+				segment.put(requestKey, created);
+				segment.removeOverflow();
+			}
+		}
+		if (existing != null) {
+			if (existing.type != type || existing.amount != amount) {
+				throw new CustomException(CustomErrorCode.IDEMPOTENCY_KEY_REUSED);
+			}
+			return await(existing.result);
+		}
+
+		try {
+			UserPoint userPoint = operation.get();
+			created.result.complete(userPoint);
+			return userPoint;
+		} catch (RuntimeException e) {
+			synchronized (segment) {
+				segment.remove(requestKey, created);
+			}
+			created.result.completeExceptionally(e);
+			throw e;
+		}
+	}
+
+	private UserPoint await(CompletableFuture<UserPoint> result) {
+		try {
+			return result.get(awaitTimeoutMillis, TimeUnit.MILLISECONDS);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw new IllegalStateException(e.getCause());
+		} catch (TimeoutException e) {
+			throw new CustomException(CustomErrorCode.SERVICE_BUSY);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CustomException(CustomErrorCode.SERVICE_BUSY);
+		}
+	}
+
+	private Segment segmentOf(RequestKey requestKey) {
+		long hash = requestKey.hashCode() * 0x9E3779B97F4A7C15L;
+		return segments[(int)(hash >>> 60) & (SEGMENT_COUNT - 1)];
+	}
+
+	private record RequestKey(long userId, String key) {
+	}
+
+	private static final class Entry {
+
+		private final TransactionType type;
+		private final long amount;
+		private final long expiresAt;
+		private final CompletableFuture<UserPoint> result = new CompletableFuture<>();
+
+		Entry(TransactionType type, long amount, long expiresAt) {
+			this.type = type;
+			this.amount = amount;
+			this.expiresAt = expiresAt;
+		}
+
+		// 처리 중인 항목은 만료되지 않은 것으로 본다.
+		boolean isExpired(long now) {
+			return expiresAt <= now && result.isDone();
+		}
+	}
+
+	private static final class Segment extends LinkedHashMap<RequestKey, Entry> {
+
+		private final int maxSize;
+
+		Segment(int maxSize) {
+			this.maxSize = maxSize;
+		}
+
+		/**
+		 * ttl 이 모두 같아 저장된 순서가 곧 만료 순서이므로, 앞에서부터 만료되지 않은 항목을 만날 때까지만 제거합니다.
+		 */
+		void removeExpired(long now) {
+			Iterator<Entry> iterator = values().iterator();
+			while (iterator.hasNext() && iterator.next().isExpired(now)) {
+				iterator.remove();
+			}
+		}
+
+		/**
+		 * 최대 크기를 넘으면 오래된 순서대로 처리가 끝난 항목만 제거합니다. 처리 중인 항목은 건너뜁니다.
+		 */
+		void removeOverflow() {
+			Iterator<Entry> iterator = values().iterator();
+			while (size() > maxSize && iterator.hasNext()) {
+				if (iterator.next().result.isDone()) {
+					iterator.remove();
+				}
+			}
+		}
+	}
+}
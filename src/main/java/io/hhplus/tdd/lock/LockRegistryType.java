@@ -0,0 +1,11 @@
+package io.hhplus.tdd.lock;
+
+/**
+ * 사용자 락을 보관하는 방식
+ * - REF_COUNTED : 사용 중인 사용자의 락만 보관하고, 기다리는 스레드가 없으면 제거
+ * - STRIPED : 고정된 개수의 락을 userId 해시로 나누어 사용 (서로 다른 사용자가 같은 락을 공유할 수 있음)
+ * - UNBOUNDED : 한 번 생성한 사용자의 락을 계속 보관
+ */
+public enum LockRegistryType {
+	REF_COUNTED, STRIPED, UNBOUNDED
+}
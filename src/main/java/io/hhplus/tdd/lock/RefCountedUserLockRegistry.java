@@ -0,0 +1,49 @@
+package io.hhplus.tdd.lock;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 락을 사용하거나 기다리는 스레드의 수를 세어, 아무도 사용하지 않는 락은 바로 제거합니다.<p>
+ * 참조 수의 증감은 ConcurrentHashMap.compute 안에서 이루어지기 때문에
+ * 누군가 락을 잡고 있거나 기다리는 동안에는 같은 사용자의 락이 새로 만들어지지 않습니다.
+ */
+class RefCountedUserLockRegistry implements UserLockRegistry {
+
+	private final Map<Long, Entry> userLocks = new ConcurrentHashMap<>();
+
+	@Override
+	public UserLock lock(long userId) {
+		Entry entry = userLocks.compute(userId, (id, current) -> {
+			Entry result = current == null ? new Entry() : current;
+			result.references++;
+			return result;
+		});
+		try {
+			entry.lock.lock();
+		} catch (RuntimeException e) {
+			release(userId);
+			throw e;
+		}
+		return () -> {
+			entry.lock.unlock();
+			release(userId);
+		};
+	}
+
+	@Override
+	public int size() {
+		return userLocks.size();
+	}
+
+	private void release(long userId) {
+		userLocks.computeIfPresent(userId, (id, entry) -> --entry.references == 0 ? null : entry);
+	}
+
+	private static final class Entry {
+		private final ReentrantLock lock = new ReentrantLock(true);
+		// compute 안에서만 읽고 쓰기 때문에 별도의 동기화가 필요하지 않다.
+		private int references;
+	}
+}
@@ -0,0 +1,39 @@
+package io.hhplus.tdd.lock;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 고정된 개수의 락을 userId 해시로 나누어 사용합니다.<p>
+ * 사용자 수와 관계없이 메모리 사용량이 일정하지만, 같은 락을 공유하는 서로 다른 사용자는 순차적으로 처리됩니다.
+ */
+class StripedUserLockRegistry implements UserLockRegistry {
+
+	private final ReentrantLock[] stripes;
+	private final int mask;
+
+	StripedUserLockRegistry(int stripeCount) {
+		int size = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+		this.stripes = new ReentrantLock[size];
+		this.mask = size - 1;
+		for (int i = 0; i < size; i++) {
+			stripes[i] = new ReentrantLock(true);
+		}
+	}
+
+	@Override
+	public UserLock lock(long userId) {
+		ReentrantLock lock = stripes[indexOf(userId)];
+		lock.lock();
+		return lock::unlock;
+	}
+
+	@Override
+	public int size() {
+		return stripes.length;
+	}
+
+	private int indexOf(long userId) {
+		long hash = userId * 0x9E3779B97F4A7C15L;
+		return (int)(hash ^ (hash >>> 32)) & mask;
+	}
+}
@@ -0,0 +1,25 @@
+package io.hhplus.tdd.lock;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 각 사용자별로 고유한 락을 생성하여 계속 보관합니다. 사용자 수만큼 메모리를 사용합니다.
+ */
+class UnboundedUserLockRegistry implements UserLockRegistry {
+
+	private final Map<Long, ReentrantLock> userLocks = new ConcurrentHashMap<>();
+
+	@Override
+	public UserLock lock(long userId) {
+		ReentrantLock lock = userLocks.computeIfAbsent(userId, id -> new ReentrantLock(true));
+		lock.lock();
+		return lock::unlock;
+	}
+
+	@Override
+	public int size() {
+		return userLocks.size();
+	}
+}
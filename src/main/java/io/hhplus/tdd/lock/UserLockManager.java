@@ -1,21 +1,53 @@
 package io.hhplus.tdd.lock;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.ReentrantLock;
-
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import io.hhplus.tdd.metrics.PointMetrics;
+
 @Component
 public class UserLockManager {
 
-	private final Map<Long, ReentrantLock> userLocks = new ConcurrentHashMap<>();
+	private final UserLockRegistry userLockRegistry;
+	private final PointMetrics pointMetrics;
+
+	public UserLockManager(LockRegistryType registryType, int stripes) {
+		this(registryType, stripes, PointMetrics.standalone());
+	}
+
+	@Autowired
+	public UserLockManager(@Value("${point.lock.registry:REF_COUNTED}") LockRegistryType registryType,
+		@Value("${point.lock.stripes:1024}") int stripes, PointMetrics pointMetrics) {
+		this.pointMetrics = pointMetrics;
+		this.userLockRegistry = switch (registryType) {
+			case REF_COUNTED -> new RefCountedUserLockRegistry();
+			case STRIPED -> new StripedUserLockRegistry(stripes);
+			case UNBOUNDED -> new UnboundedUserLockRegistry();
+		};
+	}
+
+	/**
+	 * 사용자 별 락을 획득하여 반환합니다.
+	 * 락은 공정성을 보장하며, 작업이 끝나면 반환된 UserLock 의 unlock 을 호출해야 합니다.
+	 * 락을 얻기까지 기다린 시간과 unlock 까지 락을 보유한 시간을 기록합니다.
+	 */
+	public UserLock lock(long userId) {
+		long startedAt = System.nanoTime();
+		UserLock userLock = userLockRegistry.lock(userId);
+		long acquiredAt = System.nanoTime();
+		pointMetrics.recordLockWait(acquiredAt - startedAt);
+		return () -> {
+			long heldNanos = System.nanoTime() - acquiredAt;
+			userLock.unlock();
+			pointMetrics.recordLockHold(heldNanos);
+		};
+	}
 
 	/**
-	 * 사용자 별 ReentrantLock을 반환합니다.
-	 * 각 사용자별로 고유한 락을 생성하여 반환하며, 공정성을 보장합니다.
+	 * 현재 보관 중인 락의 개수를 반환합니다.
 	 */
-	public ReentrantLock getUserLock(long userId) {
-		return userLocks.computeIfAbsent(userId, id -> new ReentrantLock(true));
+	public int registeredLockCount() {
+		return userLockRegistry.size();
 	}
 }
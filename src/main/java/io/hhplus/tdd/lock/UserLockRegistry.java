@@ -0,0 +1,12 @@
+package io.hhplus.tdd.lock;
+
+interface UserLockRegistry {
+
+	UserLock lock(long userId);
+
+	/**
+	 * 현재 보관 중인 락의 개수
+	 */
+	int size();
+
+}
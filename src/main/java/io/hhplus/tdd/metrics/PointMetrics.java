@@ -0,0 +1,147 @@
+package io.hhplus.tdd.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import io.hhplus.tdd.cache.UserPointCache;
+import io.hhplus.tdd.error.CustomErrorCode;
+import io.hhplus.tdd.error.CustomException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 포인트 기능의 처리 시간과 거절 횟수를 기록합니다. 기록된 지표는 /actuator/prometheus 로 수집합니다.<p>
+ * point.operation : 기능(PointOperation)별, 결과(success/rejected/error)별 처리 시간<p>
+ * point.lock.wait / point.lock.hold : 사용자 락을 얻기까지 기다린 시간 / 락을 보유한 시간<p>
+ * point.table : 테이블 메서드별 처리 시간<p>
+ * point.rejection : CustomErrorCode 별 거절 횟수<p>
+ * point.read : 조회 종류(read)별로 테이블을 직접 조회한 횟수(source=backend)와 진행 중인 조회에 합류한 횟수(source=coalesced)<p>
+ * point.cache.gets / point.cache.evictions / point.cache.size : 캐시 적중(result=hit)/미스(result=miss) 횟수, 제거 횟수, 크기<p>
+ * 모든 타이머는 p50/p99/p999 와 히스토그램 버킷을 함께 내보냅니다.
+ */
+@Component
+public class PointMetrics {
+
+	private static final double[] PERCENTILES = {0.5, 0.99, 0.999};
+	private static final String[] OUTCOMES = {"success", "rejected", "error"};
+	private static final int SUCCESS = 0;
+	private static final int REJECTED = 1;
+	private static final int ERROR = 2;
+
+	private final MeterRegistry meterRegistry;
+	private final Timer lockWaitTimer;
+	private final Timer lockHoldTimer;
+	// 기록할 때마다 이름과 태그로 지표를 찾지 않도록, 태그 조합이 정해진 지표는 생성 시점에 모두 등록해 배열로 보관한다.
+	private final Timer[][] operationTimers = new Timer[PointOperation.values().length][OUTCOMES.length];
+	private final Counter[] rejectionCounters = new Counter[CustomErrorCode.values().length];
+	private final Counter[] backendReadCounters = new Counter[PointRead.values().length];
+	private final Counter[] coalescedReadCounters = new Counter[PointRead.values().length];
+	private final Timer[] tableTimers = new Timer[PointTableMethod.values().length];
+
+	public PointMetrics(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+		this.lockWaitTimer = timer("point.lock.wait").register(meterRegistry);
+		this.lockHoldTimer = timer("point.lock.hold").register(meterRegistry);
+		for (PointOperation operation : PointOperation.values()) {
+			for (int outcome = 0; outcome < OUTCOMES.length; outcome++) {
+				operationTimers[operation.ordinal()][outcome] = timer("point.operation")
+					.tag("operation", operation.tag())
+					.tag("outcome", OUTCOMES[outcome])
+					.register(meterRegistry);
+			}
+		}
+		for (PointTableMethod method : PointTableMethod.values()) {
+			tableTimers[method.ordinal()] = timer("point.table").tag("method", method.tag()).register(meterRegistry);
+		}
+		for (CustomErrorCode customErrorCode : CustomErrorCode.values()) {
+			rejectionCounters[customErrorCode.ordinal()] = Counter.builder("point.rejection")
+				.tag("code", customErrorCode.name())
+				.register(meterRegistry);
+		}
+		for (PointRead read : PointRead.values()) {
+			backendReadCounters[read.ordinal()] = readCounter(read, "backend");
+			coalescedReadCounters[read.ordinal()] = readCounter(read, "coalesced");
+		}
+	}
+
+	/**
+	 * 스프링 컨텍스트 없이 생성되는 객체(테스트, 벤치마크)에서 사용하며, 지표를 메모리에만 기록합니다.
+	 */
+	public static PointMetrics standalone() {
+		return new PointMetrics(new SimpleMeterRegistry());
+	}
+
+	/**
+	 * task 의 처리 시간을 결과별로 기록합니다. CustomException 으로 거절된 경우 에러 코드별 거절 횟수도 함께 기록합니다.
+	 */
+	public <T> T recordOperation(PointOperation operation, Supplier<T> task) {
+		long startedAt = System.nanoTime();
+		int outcome = ERROR;
+		try {
+			T result = task.get();
+			outcome = SUCCESS;
+			return result;
+		} catch (CustomException e) {
+			outcome = REJECTED;
+			countRejection(e.getCustomErrorCode());
+			throw e;
+		} finally {
+			operationTimers[operation.ordinal()][outcome].record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	public void recordLockWait(long nanos) {
+		lockWaitTimer.record(nanos, TimeUnit.NANOSECONDS);
+	}
+
+	public void recordLockHold(long nanos) {
+		lockHoldTimer.record(nanos, TimeUnit.NANOSECONDS);
+	}
+
+	public void recordTable(PointTableMethod method, long nanos) {
+		tableTimers[method.ordinal()].record(nanos, TimeUnit.NANOSECONDS);
+	}
+
+	public void countRejection(CustomErrorCode customErrorCode) {
+		rejectionCounters[customErrorCode.ordinal()].increment();
+	}
+
+	public void countRead(PointRead read, boolean coalesced) {
+		(coalesced ? coalescedReadCounters : backendReadCounters)[read.ordinal()].increment();
+	}
+
+	/**
+	 * 캐시의 적중/미스/제거 횟수와 크기를 등록합니다. 값은 지표를 수집할 때 캐시에서 읽어오므로 조회 경로에 비용을 더하지 않습니다.
+	 */
+	public void registerCache(UserPointCache cache) {
+		FunctionCounter.builder("point.cache.gets", cache, UserPointCache::hitCount)
+			.tag("result", "hit")
+			.register(meterRegistry);
+		FunctionCounter.builder("point.cache.gets", cache, UserPointCache::missCount)
+			.tag("result", "miss")
+			.register(meterRegistry);
+		FunctionCounter.builder("point.cache.evictions", cache, UserPointCache::evictionCount)
+			.register(meterRegistry);
+		Gauge.builder("point.cache.size", cache, UserPointCache::size)
+			.register(meterRegistry);
+	}
+
+	private Counter readCounter(PointRead read, String source) {
+		return Counter.builder("point.read")
+			.tag("read", read.tag())
+			.tag("source", source)
+			.register(meterRegistry);
+	}
+
+	private Timer.Builder timer(String name) {
+		return Timer.builder(name)
+			.publishPercentiles(PERCENTILES)
+			.publishPercentileHistogram();
+	}
+}
@@ -0,0 +1,29 @@
+package io.hhplus.tdd.metrics;
+
+/**
+ * point.operation 지표의 operation 태그로 기록되는 포인트 기능입니다.
+ */
+public enum PointOperation {
+
+	SEARCH("search"),
+	HISTORY("history"),
+	HISTORY_PAGE("history-page"),
+	HISTORY_RECENT("history-recent"),
+	STATS("stats"),
+	SUMMARY("summary"),
+	EXPORT("export"),
+	EXPORT_ALL("export-all"),
+	CHARGE("charge"),
+	USE("use"),
+	BULK("bulk");
+
+	private final String tag;
+
+	PointOperation(String tag) {
+		this.tag = tag;
+	}
+
+	public String tag() {
+		return tag;
+	}
+}
@@ -0,0 +1,20 @@
+package io.hhplus.tdd.metrics;
+
+/**
+ * point.read 지표의 read 태그로 기록되는 조회 종류입니다.
+ */
+public enum PointRead {
+
+	USER_POINT("user-point"),
+	HISTORY("history");
+
+	private final String tag;
+
+	PointRead(String tag) {
+		this.tag = tag;
+	}
+
+	public String tag() {
+		return tag;
+	}
+}
@@ -0,0 +1,24 @@
+package io.hhplus.tdd.metrics;
+
+/**
+ * point.table 지표의 method 태그로 기록되는 테이블 메서드입니다.
+ */
+public enum PointTableMethod {
+
+	SELECT_BY_ID("selectById"),
+	SELECT_VERSIONED_BY_ID("selectVersionedById"),
+	INSERT_OR_UPDATE("insertOrUpdate"),
+	COMPARE_AND_UPDATE("compareAndUpdate"),
+	INSERT("insert"),
+	INSERT_ALL("insertAll");
+
+	private final String tag;
+
+	PointTableMethod(String tag) {
+		this.tag = tag;
+	}
+
+	public String tag() {
+		return tag;
+	}
+}
@@ -0,0 +1,184 @@
+package io.hhplus.tdd.point;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import io.hhplus.tdd.cache.UserPointCache;
+import io.hhplus.tdd.database.PointHistoryEntry;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.database.VersionedUserPoint;
+import io.hhplus.tdd.history.PointHistoryWriter;
+import io.hhplus.tdd.lock.UserLock;
+import io.hhplus.tdd.lock.UserLockManager;
+
+/**
+ * 사용자별로 요청을 모아서 처리하는 group commit 방식의 트랜잭션 처리기입니다.<p>
+ * 요청은 먼저 사용자별 대기열에 쌓이고, 사용자 락을 얻은 스레드가 대기열에 쌓인 요청을 한 번에 꺼내 처리합니다.<p>
+ * 묶인 요청들은 한 번의 selectVersionedById, 한 번의 히스토리 저장(writeAll), 한 번의 insertOrUpdate 로 처리되며
+ * 도착한 순서대로 UserPoint.charge/use 의 정책 검증을 거치기 때문에 실패한 요청만 각자의 예외를 받습니다.<p>
+ * 히스토리는 잔액을 저장하기 전에 요청 순서대로 version 을 하나씩 늘려 한 번에 기록하고, 잔액은 마지막 요청까지의 결과를
+ * 그 요청의 version 으로 한 번만 저장합니다. writeAll 은 모두 기록하거나 하나도 기록하지 않으므로,
+ * 기록에 실패하면 묶인 요청 모두 잔액에 반영되지 않고 예외를 받습니다.
+ */
+@Component
+@ConditionalOnProperty(name = "point.transaction.mode", havingValue = "batch")
+public class BatchPointTransactionHandler implements PointTransactionHandler {
+
+	private static final Logger log = LoggerFactory.getLogger(BatchPointTransactionHandler.class);
+
+	private final PointHistoryWriter pointHistoryWriter;
+	private final UserPointTable userPointTable;
+	private final UserLockManager userLockManager;
+	private final UserPointCache userPointCache;
+	private final int maxBatchSize;
+	private final Map<Long, Queue<PointRequest>> pendingRequests = new ConcurrentHashMap<>();
+
+	public BatchPointTransactionHandler(PointHistoryWriter pointHistoryWriter, UserPointTable userPointTable,
+		UserLockManager userLockManager, UserPointCache userPointCache,
+		@Value("${point.batch.max-size:100}") int maxBatchSize) {
+		this.pointHistoryWriter = pointHistoryWriter;
+		this.userPointTable = userPointTable;
+		this.userLockManager = userLockManager;
+		this.userPointCache = userPointCache;
+		this.maxBatchSize = maxBatchSize;
+	}
+
+	@Override
+	public UserPoint charge(long id, long amount) {
+		return submit(new PointRequest(id, amount, TransactionType.CHARGE));
+	}
+
+	@Override
+	public UserPoint use(long id, long amount) {
+		return submit(new PointRequest(id, amount, TransactionType.USE));
+	}
+
+	private UserPoint submit(PointRequest request) {
+		// 대기열 생성과 요청 추가를 compute 안에서 처리해 flush 의 대기열 정리와 겹치지 않도록 한다.
+		Queue<PointRequest> queue = pendingRequests.compute(request.id(), (id, current) -> {
+			Queue<PointRequest> target = current == null ? new ConcurrentLinkedQueue<>() : current;
+			target.add(request);
+			return target;
+		});
+		// 락을 기다리는 동안 앞선 flush 가 내 요청까지 처리했다면 바로 결과를 반환한다.
+		while (!request.result().isDone()) {
+			UserLock userLock = userLockManager.lock(request.id());
+			try {
+				if (!request.result().isDone()) {
+					flush(request.id(), queue);
+				}
+			} finally {
+				userLock.unlock();
+			}
+		}
+		return await(request.result());
+	}
+
+	/**
+	 * 사용자 락을 보유한 상태에서만 호출됩니다.
+	 */
+	private void flush(long id, Queue<PointRequest> queue) {
+		List<PointRequest> batch = new ArrayList<>();
+		PointRequest pending;
+		while (batch.size() < maxBatchSize && (pending = queue.poll()) != null) {
+			batch.add(pending);
+		}
+		// 비어있는 대기열은 정리한다. 요청 추가도 compute 안에서 이루어지므로 비어있음을 확인한 뒤 추가된 요청이 버려지지 않는다.
+		pendingRequests.computeIfPresent(id, (key, current) -> current == queue && queue.isEmpty() ? null : current);
+
+		List<PointRequest> appliedRequests = new ArrayList<>();
+		List<UserPoint> appliedUserPoints = new ArrayList<>();
+		VersionedUserPoint current;
+		try {
+			current = userPointTable.selectVersionedById(id);
+		} catch (RuntimeException e) {
+			batch.forEach(request -> request.result().completeExceptionally(e));
+			return;
+		}
+		UserPoint userPoint = current.userPoint();
+		for (PointRequest request : batch) {
+			// 거절된 요청은 예외를 던지지 않고 결과로 확인해 해당 요청에만 전달한다.
+			PointResult result = request.applyTo(userPoint);
+			if (result.isRejected()) {
+				request.result().completeExceptionally(result.toException());
+				continue;
+			}
+			userPoint = result.userPoint();
+			appliedRequests.add(request);
+			appliedUserPoints.add(userPoint);
+		}
+
+		// 잔액을 저장하기 전에 요청 순서대로 히스토리를 한 번에 기록한다. 기록에 실패하면 어떤 요청도 잔액에 반영하지 않는다.
+		List<PointHistoryEntry> entries = new ArrayList<>(appliedRequests.size());
+		long now = System.currentTimeMillis();
+		for (int i = 0; i < appliedRequests.size(); i++) {
+			PointRequest request = appliedRequests.get(i);
+			entries.add(new PointHistoryEntry(id, appliedUserPoints.get(i).point(), request.amount(), request.type(),
+				now, current.version() + i + 1));
+		}
+		int logged = 0;
+		RuntimeException failure = null;
+		try {
+			pointHistoryWriter.writeAll(entries);
+			logged = entries.size();
+		} catch (RuntimeException e) {
+			log.error("포인트 내역 기록에 실패해 요청을 반영하지 않습니다. userId={}, failed={}", id, entries.size(), e);
+			failure = e;
+		}
+		if (logged > 0) {
+			try {
+				// 유저 포인트는 기록된 마지막 요청의 잔액과 version 으로 한 번만 저장한다.
+				UserPoint resultUserPoint = userPointTable.insertOrUpdate(id, appliedUserPoints.get(logged - 1).point(),
+					current.version() + logged);
+				userPointCache.put(resultUserPoint);
+				appliedUserPoints.set(logged - 1, resultUserPoint);
+			} catch (RuntimeException e) {
+				// 기록된 거래가 잔액에 반영되었는지 알 수 없으므로 모든 요청에 예외를 전달한다. 재시작하면 로그의 잔액으로 복구된다.
+				log.error("포인트 내역 기록 후 잔액 저장에 실패했습니다. userId={}", id, e);
+				failure = e;
+				logged = 0;
+			}
+		}
+		for (int i = 0; i < appliedRequests.size(); i++) {
+			if (i < logged) {
+				appliedRequests.get(i).result().complete(appliedUserPoints.get(i));
+			} else {
+				appliedRequests.get(i).result().completeExceptionally(failure);
+			}
+		}
+	}
+
+	private UserPoint await(CompletableFuture<UserPoint> result) {
+		try {
+			return result.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	private record PointRequest(long id, long amount, TransactionType type, CompletableFuture<UserPoint> result) {
+
+		PointRequest(long id, long amount, TransactionType type) {
+			this(id, amount, type, new CompletableFuture<>());
+		}
+
+		PointResult applyTo(UserPoint userPoint) {
+			return type == TransactionType.CHARGE ? userPoint.tryCharge(amount) : userPoint.tryUse(amount);
+		}
+	}
+}
@@ -0,0 +1,12 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 일괄 처리 API 로 전달되는 사용자 한 명에 대한 충전/사용 요청입니다.<p>
+ * 요청 본문에서 빠진 값을 0 과 구분할 수 있도록 userId 와 amount 는 null 을 허용하며, 처리하기 전에 건별로 검증합니다.
+ */
+public record BulkPointOperation(
+	Long userId,
+	Long amount,
+	TransactionType type
+) {
+}
@@ -0,0 +1,27 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.error.ErrorResponse;
+
+/**
+ * 일괄 처리 요청 한 건의 결과입니다. 성공하면 userPoint 에 처리 후 포인트가, 실패하면 error 에 사유가 담깁니다.
+ * 요청 항목이 null 이었다면 userId/amount/type 도 null 입니다.
+ */
+public record BulkPointResult(
+	Long userId,
+	Long amount,
+	TransactionType type,
+	UserPoint userPoint,
+	ErrorResponse error
+) {
+
+	static BulkPointResult success(BulkPointOperation operation, UserPoint userPoint) {
+		return new BulkPointResult(operation.userId(), operation.amount(), operation.type(), userPoint, null);
+	}
+
+	static BulkPointResult failure(BulkPointOperation operation, ErrorResponse error) {
+		if (operation == null) {
+			return new BulkPointResult(null, null, null, null, error);
+		}
+		return new BulkPointResult(operation.userId(), operation.amount(), operation.type(), null, error);
+	}
+}
@@ -0,0 +1,251 @@
+package io.hhplus.tdd.point;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import io.hhplus.tdd.cache.UserPointCache;
+import io.hhplus.tdd.database.PointHistoryEntry;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.database.VersionedUserPoint;
+import io.hhplus.tdd.error.CustomErrorCode;
+import io.hhplus.tdd.error.CustomException;
+import io.hhplus.tdd.history.PointHistoryWriter;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 사용자 id 의 해시로 나눈 shard 마다 전용 스레드 하나가 요청을 처리하는 single-writer 방식의 트랜잭션 처리기입니다.<p>
+ * 요청은 shard 의 ring buffer 에 들어가고, shard 스레드가 도착한 순서대로 꺼내 UserPoint.charge/use 를 적용합니다.
+ * 한 사용자의 요청은 항상 같은 스레드가 처리하므로 사용자 락이 필요 없고, 락을 넘겨주는 비용도 없습니다.
+ * 내역은 포인트를 저장하기 전에 다음 version 으로 기록하므로 한 사용자의 내역은 version 순서대로 로그에 남습니다.<p>
+ * 요청한 스레드는 결과 future 가 완료될 때까지 기다리며, ring buffer 가 가득 차면 자리가 날 때까지 기다립니다.
+ * 테이블 지연(throttle)이 그대로 shard 스레드의 처리 시간이 되므로 지연을 끈 환경을 기준으로 합니다.<p>
+ * 요청은 shard 스레드가 처리를 시작할 때 선점(claim)되며, 선점되지 않은 요청만 실패로 완료할 수 있습니다.
+ * 결과를 point.event-loop.await-timeout-millis 동안 받지 못했거나 종료 중에 들어온 요청은 선점해 SERVICE_BUSY 로 실패시키므로
+ * 실패로 응답한 요청이 나중에 반영되지 않고, 종료 시점에 ring buffer 에 남은 요청도 기다리는 스레드를 멈춰두지 않습니다.
+ */
+@Component
+@ConditionalOnProperty(name = "point.transaction.mode", havingValue = "event-loop")
+public class EventLoopPointTransactionHandler implements PointTransactionHandler {
+
+	private static final int SPINS_BEFORE_PARK = 100;
+
+	private final PointHistoryWriter pointHistoryWriter;
+	private final UserPointTable userPointTable;
+	private final UserPointCache userPointCache;
+	private final Shard[] shards;
+	private final long awaitTimeoutMillis;
+	private volatile boolean running = true;
+
+	public EventLoopPointTransactionHandler(PointHistoryWriter pointHistoryWriter, UserPointTable userPointTable,
+		UserPointCache userPointCache, int shardCount, int ringSize) {
+		this(pointHistoryWriter, userPointTable, userPointCache, shardCount, ringSize, 5000L);
+	}
+
+	@Autowired
+	public EventLoopPointTransactionHandler(PointHistoryWriter pointHistoryWriter, UserPointTable userPointTable,
+		UserPointCache userPointCache, @Value("${point.event-loop.shards:4}") int shardCount,
+		@Value("${point.event-loop.ring-size:1024}") int ringSize,
+		@Value("${point.event-loop.await-timeout-millis:5000}") long awaitTimeoutMillis) {
+		this.pointHistoryWriter = pointHistoryWriter;
+		this.userPointTable = userPointTable;
+		this.userPointCache = userPointCache;
+		this.awaitTimeoutMillis = awaitTimeoutMillis;
+		this.shards = new Shard[shardCount];
+		for (int i = 0; i < shardCount; i++) {
+			shards[i] = new Shard(i, ringSize);
+		}
+		for (Shard shard : shards) {
+			shard.thread.start();
+		}
+	}
+
+	@Override
+	public UserPoint charge(long id, long amount) {
+		return submit(new PointCommand(id, amount, TransactionType.CHARGE));
+	}
+
+	@Override
+	public UserPoint use(long id, long amount) {
+		return submit(new PointCommand(id, amount, TransactionType.USE));
+	}
+
+	@PreDestroy
+	public void shutdown() throws InterruptedException {
+		running = false;
+		for (Shard shard : shards) {
+			LockSupport.unpark(shard.thread);
+		}
+		for (Shard shard : shards) {
+			shard.thread.join(TimeUnit.SECONDS.toMillis(5));
+			if (shard.thread.isAlive()) {
+				// shard 스레드가 아직 처리 중이라면 ring 을 함께 꺼낼 수 없다.
+				// 남은 요청은 기다리던 스레드가 제한 시간이 지난 뒤 선점해 실패로 완료한다.
+				continue;
+			}
+			// 종료 직전에 들어온 요청은 처리하지 않고 실패로 완료한다.
+			PointCommand command;
+			while ((command = shard.ring.poll()) != null) {
+				command.reject();
+			}
+		}
+	}
+
+	private UserPoint submit(PointCommand command) {
+		if (!running) {
+			throw new CustomException(CustomErrorCode.SERVICE_BUSY);
+		}
+		Shard shard = shards[indexOf(command.id())];
+		while (!shard.ring.offer(command)) {
+			if (!running) {
+				throw new CustomException(CustomErrorCode.SERVICE_BUSY);
+			}
+			// ring buffer 가 가득 찼다면 shard 스레드가 비워줄 때까지 잠시 기다린다.
+			LockSupport.unpark(shard.thread);
+			LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(10));
+		}
+		if (!running) {
+			// 넣는 사이에 종료되었다면 shard 스레드가 이미 끝나 요청을 꺼내지 않을 수 있다.
+			command.reject();
+		}
+		if (shard.sleeping) {
+			LockSupport.unpark(shard.thread);
+		}
+		return await(command);
+	}
+
+	private int indexOf(long id) {
+		long hash = id * 0x9E3779B97F4A7C15L;
+		return (int)Math.floorMod(hash ^ (hash >>> 32), (long)shards.length);
+	}
+
+	/**
+	 * shard 스레드에서만 호출됩니다.
+	 */
+	private void apply(PointCommand command) {
+		if (!command.claim()) {
+			// 이미 실패로 완료된 요청이다.
+			return;
+		}
+		try {
+			VersionedUserPoint current = userPointTable.selectVersionedById(command.id());
+			PointResult result = command.applyTo(current.userPoint());
+			if (result.isRejected()) {
+				command.result().completeExceptionally(result.toException());
+				return;
+			}
+			// 내역을 먼저 기록하고, 기록에 실패하면 포인트를 변경하지 않는다.
+			pointHistoryWriter.write(new PointHistoryEntry(command.id(), result.userPoint().point(), command.amount(),
+				command.type(), System.currentTimeMillis(), current.version() + 1));
+			UserPoint resultUserPoint = userPointTable.insertOrUpdate(command.id(), result.userPoint().point());
+			userPointCache.put(resultUserPoint);
+			command.result().complete(resultUserPoint);
+		} catch (RuntimeException e) {
+			command.result().completeExceptionally(e);
+		}
+	}
+
+	/**
+	 * 결과를 제한 시간 동안 기다립니다. 그때까지 처리가 시작되지 않았다면 요청을 선점해 SERVICE_BUSY 로 실패시키고,
+	 * 이미 처리 중이라면 같은 시간만큼 한 번 더 기다립니다. 그래도 끝나지 않으면 SERVICE_BUSY 를 던지며,
+	 * 이 경우에는 처리 중이던 변경이 이후에 반영될 수 있습니다.
+	 */
+	private UserPoint await(PointCommand command) {
+		try {
+			try {
+				return command.result().get(awaitTimeoutMillis, TimeUnit.MILLISECONDS);
+			} catch (TimeoutException e) {
+				command.reject();
+				return command.result().get(awaitTimeoutMillis, TimeUnit.MILLISECONDS);
+			}
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw new IllegalStateException(e.getCause());
+		} catch (TimeoutException e) {
+			throw new CustomException(CustomErrorCode.SERVICE_BUSY);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CustomException(CustomErrorCode.SERVICE_BUSY);
+		}
+	}
+
+	private final class Shard {
+		private final PointCommandRing<PointCommand> ring;
+		private final Thread thread;
+		// shard 스레드가 잠들기 전에 true 로 바꾸고 ring 을 한 번 더 확인하므로, 요청을 넣은 뒤 이 값을 읽으면 깨우기를 놓치지 않는다.
+		private volatile boolean sleeping;
+
+		Shard(int index, int ringSize) {
+			this.ring = new PointCommandRing<>(ringSize);
+			this.thread = new Thread(this::run, "point-event-loop-" + index);
+			thread.setDaemon(true);
+		}
+
+		void run() {
+			int idle = 0;
+			while (true) {
+				PointCommand command = ring.poll();
+				if (command != null) {
+					idle = 0;
+					apply(command);
+					continue;
+				}
+				if (!running) {
+					return;
+				}
+				if (++idle < SPINS_BEFORE_PARK) {
+					Thread.onSpinWait();
+					continue;
+				}
+				sleeping = true;
+				command = ring.poll();
+				if (command == null && running) {
+					LockSupport.park(this);
+				}
+				sleeping = false;
+				if (command != null) {
+					apply(command);
+				}
+				idle = 0;
+			}
+		}
+	}
+
+	private record PointCommand(long id, long amount, TransactionType type, CompletableFuture<UserPoint> result,
+		AtomicBoolean claimed) {
+
+		PointCommand(long id, long amount, TransactionType type) {
+			this(id, amount, type, new CompletableFuture<>(), new AtomicBoolean());
+		}
+
+		/**
+		 * 요청을 처리하거나 실패시킬 권한을 얻습니다. 한 요청에 대해 한 번만 true 를 반환합니다.
+		 */
+		boolean claim() {
+			return claimed.compareAndSet(false, true);
+		}
+
+		/**
+		 * 아직 처리가 시작되지 않은 요청을 SERVICE_BUSY 로 실패시킵니다. 이미 처리 중이거나 완료된 요청에는 영향이 없습니다.
+		 */
+		void reject() {
+			if (claim()) {
+				result.completeExceptionally(new CustomException(CustomErrorCode.SERVICE_BUSY));
+			}
+		}
+
+		PointResult applyTo(UserPoint userPoint) {
+			return type == TransactionType.CHARGE ? userPoint.tryCharge(amount) : userPoint.tryUse(amount);
+		}
+	}
+}
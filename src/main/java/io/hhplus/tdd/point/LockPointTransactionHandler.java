@@ -0,0 +1,72 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import io.hhplus.tdd.cache.UserPointCache;
+import io.hhplus.tdd.database.PointHistoryEntry;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.database.VersionedUserPoint;
+import io.hhplus.tdd.history.PointHistoryWriter;
+import io.hhplus.tdd.lock.UserLock;
+import io.hhplus.tdd.lock.UserLockManager;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 	동시성 제어를 하려면?<p>
+ * 	동일한 사용자에 대해서 여러 스레드에서 충전 작업이 이루어질 경우 이 동시 접근에 대한 제어가 필요하다. <p>
+ * 	각 사용자에 대한 개별적인 ReetrantLock을 사용하면 동일한 사용자에 대해서 여러 스레드에서 충전 작업이 이루어질 경우 동시 접근에 대한 제어가 가능하다. <p>
+ * 	각기 다른 사용자에 대한 충전작업이 동시에 이루어질 경우 각 사용자에 대해 개별적 ReetrantLock을 사용하기에 병렬적으로 작업이 이루어진다. <p>
+ * 	내역은 락 안에서 포인트를 저장하기 전에 다음 version 으로 기록하므로, 한 사용자의 내역은 version 순서대로 로그에 남는다.
+ */
+@Component
+@ConditionalOnProperty(name = "point.transaction.mode", havingValue = "lock", matchIfMissing = true)
+@RequiredArgsConstructor
+public class LockPointTransactionHandler implements PointTransactionHandler {
+
+	private final PointHistoryWriter pointHistoryWriter;
+	private final UserPointTable userPointTable;
+	private final UserLockManager userLockManager;
+	private final UserPointCache userPointCache;
+
+	@Override
+	public UserPoint charge(long id, long amount) {
+		UserLock userLock = userLockManager.lock(id);
+		try {
+			VersionedUserPoint current = userPointTable.selectVersionedById(id);
+			// 유저 정보를 가져오고 이를 검증하고 새로운 객체를 반환하는 역할을 밖으로 뺀다.
+			UserPoint afterChargedUserPoint = current.userPoint().charge(amount);
+			return save(current, afterChargedUserPoint, amount, TransactionType.CHARGE);
+		} finally {
+			userLock.unlock();
+		}
+	}
+
+	@Override
+	public UserPoint use(long id, long amount) {
+		// UserPoint 객체를 가져온다.
+		UserLock userLock = userLockManager.lock(id);
+		try {
+			VersionedUserPoint current = userPointTable.selectVersionedById(id);
+			// UserPoint에서 처리
+			UserPoint afterUsedUserPoint = current.userPoint().use(amount);
+			return save(current, afterUsedUserPoint, amount, TransactionType.USE);
+		} finally {
+			userLock.unlock();
+		}
+	}
+
+	/**
+	 * 사용자 락을 보유한 상태에서만 호출됩니다.
+	 */
+	private UserPoint save(VersionedUserPoint current, UserPoint updatedUserPoint, long amount,
+		TransactionType type) {
+		// 히스토리를 먼저 기록하고, 기록에 실패하면 포인트를 변경하지 않는다.
+		pointHistoryWriter.write(new PointHistoryEntry(updatedUserPoint.id(), updatedUserPoint.point(), amount, type,
+			System.currentTimeMillis(), current.version() + 1));
+		// 유저 포인트 저장하기
+		UserPoint resultUserPoint = userPointTable.insertOrUpdate(updatedUserPoint.id(), updatedUserPoint.point());
+		userPointCache.put(resultUserPoint);
+		return resultUserPoint;
+	}
+}
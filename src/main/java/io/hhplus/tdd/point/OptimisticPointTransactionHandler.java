@@ -0,0 +1,183 @@
+package io.hhplus.tdd.point;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import io.hhplus.tdd.cache.UserPointCache;
+import io.hhplus.tdd.database.PointHistoryEntry;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.database.VersionedUserPoint;
+import io.hhplus.tdd.error.CustomErrorCode;
+import io.hhplus.tdd.error.CustomException;
+import io.hhplus.tdd.history.PointHistoryWriter;
+
+/**
+ * 락 없이 version 비교(compare-and-set)로 포인트를 변경하는 트랜잭션 처리기입니다.<p>
+ * version 과 함께 포인트를 조회해 UserPoint.tryCharge/tryUse 를 적용하고, 그 사이 다른 요청이 먼저 변경했다면 다시 조회해서 재시도합니다.<p>
+ * 재시도 횟수를 넘기면 CONCURRENT_UPDATE_CONFLICT 예외를 던집니다.<p>
+ * 내역은 포인트를 변경하기 전에 다음 version 으로 기록합니다. 기록한 거래가 compare-and-set 에서 밀려나지 않도록,
+ * 조회한 version 이 그 사용자의 마지막 반영 version 과 같을 때만 기록할 권한(claim)을 얻고 그렇지 않으면 다시 조회합니다.
+ * 한 사용자에 대해 기록부터 포인트 반영까지는 하나의 요청만 진행하므로, 내역은 version 순서대로 로그에 남습니다.<p>
+ * 권한은 기록과 반영의 성공 여부와 관계없이 항상 돌려줍니다. 권한을 얻지 못한 요청은 진행 중인 기록을 최대 maxRetries 번
+ * (한 번에 WAIT_STEP_MILLIS) 기다리고, 기다린 뒤 다시 조회하는 것도 한 번의 재시도로 셉니다.
+ * 사용자별 상태는 그 사용자의 요청이 진행 중인 동안에만 유지되고, 마지막 요청이 끝나면 제거됩니다.
+ */
+@Component
+@ConditionalOnProperty(name = "point.transaction.mode", havingValue = "optimistic")
+public class OptimisticPointTransactionHandler implements PointTransactionHandler {
+
+	private static final long MAX_BACKOFF_MICROS = 10_000L;
+	// 다른 요청의 기록이 끝나기를 기다리는 한 번의 간격. 테이블 지연(최대 300ms)을 두 번 거치는 기록도 기본 재시도 횟수 안에 끝난다.
+	private static final long WAIT_STEP_MILLIS = 20L;
+
+	private final PointHistoryWriter pointHistoryWriter;
+	private final UserPointTable userPointTable;
+	private final UserPointCache userPointCache;
+	private final int maxRetries;
+	// 요청이 진행 중인 사용자의 기록 상태. 참조 수가 0 이 되면 제거되므로 진행 중인 사용자 수 만큼만 유지된다.
+	private final Map<Long, WriteState> writeStates = new ConcurrentHashMap<>();
+
+	public OptimisticPointTransactionHandler(PointHistoryWriter pointHistoryWriter, UserPointTable userPointTable,
+		UserPointCache userPointCache, @Value("${point.optimistic.max-retries:50}") int maxRetries) {
+		this.pointHistoryWriter = pointHistoryWriter;
+		this.userPointTable = userPointTable;
+		this.userPointCache = userPointCache;
+		this.maxRetries = maxRetries;
+	}
+
+	@Override
+	public UserPoint charge(long id, long amount) {
+		return update(id, amount, TransactionType.CHARGE);
+	}
+
+	@Override
+	public UserPoint use(long id, long amount) {
+		return update(id, amount, TransactionType.USE);
+	}
+
+	private UserPoint update(long id, long amount, TransactionType type) {
+		WriteState state = acquire(id);
+		try {
+			for (int attempt = 1; ; attempt++) {
+				VersionedUserPoint current = userPointTable.selectVersionedById(id);
+				PointResult result = type == TransactionType.CHARGE ? current.userPoint().tryCharge(amount)
+					: current.userPoint().tryUse(amount);
+				// 정책 위반은 재시도하지 않고 그대로 예외를 던진다.
+				if (result.isRejected()) {
+					throw result.toException();
+				}
+				if (state.claim(current.version())) {
+					UserPoint resultUserPoint = save(state, current.version(), result.userPoint(), amount, type);
+					if (resultUserPoint != null) {
+						return resultUserPoint;
+					}
+				} else if (!awaitWriting(state)) {
+					// 다른 요청의 기록이 기다릴 수 있는 시간 안에 끝나지 않았다.
+					break;
+				}
+				if (attempt >= maxRetries) {
+					break;
+				}
+				backoff(attempt);
+			}
+			throw new CustomException(CustomErrorCode.CONCURRENT_UPDATE_CONFLICT);
+		} finally {
+			release(id);
+		}
+	}
+
+	private WriteState acquire(long id) {
+		return writeStates.compute(id, (key, state) -> {
+			WriteState target = state == null ? new WriteState() : state;
+			target.references++;
+			return target;
+		});
+	}
+
+	private void release(long id) {
+		writeStates.computeIfPresent(id, (key, state) -> --state.references == 0 ? null : state);
+	}
+
+	/**
+	 * 기록 중인 요청이 권한을 돌려줄 때까지 최대 maxRetries 번 기다립니다. 기다리는 동안 끝나지 않으면 false 를 반환합니다.
+	 */
+	private boolean awaitWriting(WriteState state) {
+		for (int waits = 0; state.isWriting(); waits++) {
+			if (waits >= maxRetries) {
+				return false;
+			}
+			LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(WAIT_STEP_MILLIS));
+		}
+		return true;
+	}
+
+	/**
+	 * claim 을 얻은 요청만 호출합니다. 내역을 기록한 뒤 포인트를 반영하고, 결과와 관계없이 권한을 돌려줍니다.
+	 */
+	private UserPoint save(WriteState state, long version, UserPoint updatedUserPoint, long amount,
+		TransactionType type) {
+		long id = updatedUserPoint.id();
+		// 기록하지 못했다면 포인트도 변경하지 않았으므로 조회한 version 이 그대로 마지막 반영 version 이다.
+		long appliedVersion = version;
+		try {
+			pointHistoryWriter.write(new PointHistoryEntry(id, updatedUserPoint.point(), amount, type,
+				System.currentTimeMillis(), version + 1));
+			// 포인트 반영 결과를 알 수 없는 동안에는 테이블의 version 을 기준으로 삼는다.
+			appliedVersion = WriteState.UNKNOWN;
+			UserPoint resultUserPoint = userPointTable.compareAndUpdate(id, version, updatedUserPoint.point());
+			if (resultUserPoint == null) {
+				// claim 을 얻은 요청만 포인트를 변경하므로, 이 처리기를 거치지 않고 포인트가 변경된 경우에만 실패한다.
+				return null;
+			}
+			appliedVersion = version + 1;
+			// 캐시 갱신 순서를 보장할 수 없으므로 갱신 대신 제거한다.
+			userPointCache.invalidate(id);
+			return resultUserPoint;
+		} finally {
+			state.release(appliedVersion);
+		}
+	}
+
+	private void backoff(int attempt) {
+		long maxMicros = Math.min(MAX_BACKOFF_MICROS, 1L << Math.min(attempt, 20));
+		LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(ThreadLocalRandom.current().nextLong(maxMicros + 1)));
+	}
+
+	/**
+	 * 한 사용자의 마지막 반영 version 과 기록 중인 요청이 있는지를 나타냅니다.<p>
+	 * version 이 UNKNOWN 이면 상태가 만들어진 뒤 이 처리기로 반영된 거래가 없으므로, 상태를 만든 뒤 조회한 테이블의 version 이
+	 * 마지막 반영 version 입니다. references 는 writeStates 의 compute 안에서만 변경합니다.
+	 */
+	private static final class WriteState {
+
+		static final long UNKNOWN = -1L;
+
+		private int references;
+		private long version = UNKNOWN;
+		private boolean writing;
+
+		synchronized boolean claim(long readVersion) {
+			if (writing || version != UNKNOWN && version != readVersion) {
+				return false;
+			}
+			writing = true;
+			return true;
+		}
+
+		synchronized void release(long appliedVersion) {
+			writing = false;
+			version = appliedVersion;
+		}
+
+		synchronized boolean isWriting() {
+			return writing;
+		}
+	}
+}
@@ -0,0 +1,60 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * /point 와 같은 기능을 비동기로 처리합니다.<p>
+ * CompletableFuture 를 반환하면 요청 스레드는 바로 반환되고, 응답은 PointAsyncService 의 스레드 풀에서 처리가 끝난 뒤에 작성됩니다.
+ * 예외는 CompletionException 이 벗겨진 채로 ApiControllerAdvice 에 전달됩니다.<p>
+ * 충전/사용은 /point 와 같이 Idempotency-Key 헤더를 받습니다.
+ */
+@RestController
+@RequestMapping("/async/point")
+@RequiredArgsConstructor
+public class PointAsyncController {
+
+	private final PointAsyncService pointAsyncService;
+
+	@GetMapping("{id}")
+	public CompletableFuture<UserPoint> point(
+		@PathVariable long id
+	) {
+		return pointAsyncService.searchUserPoint(id);
+	}
+
+	@GetMapping("{id}/histories")
+	public CompletableFuture<List<PointHistory>> history(
+		@PathVariable long id
+	) {
+		return pointAsyncService.searchPointHistory(id);
+	}
+
+	@PatchMapping("{id}/charge")
+	public CompletableFuture<UserPoint> charge(
+		@PathVariable long id,
+		@RequestBody long amount,
+		@RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey
+	) {
+		return pointAsyncService.charge(id, amount, idempotencyKey);
+	}
+
+	@PatchMapping("{id}/use")
+	public CompletableFuture<UserPoint> use(
+		@PathVariable long id,
+		@RequestBody long amount,
+		@RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey
+	) {
+		return pointAsyncService.use(id, amount, idempotencyKey);
+	}
+}
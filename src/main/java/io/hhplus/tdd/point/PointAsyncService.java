@@ -0,0 +1,92 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import io.hhplus.tdd.error.CustomErrorCode;
+import io.hhplus.tdd.error.CustomException;
+import io.hhplus.tdd.idempotency.PointIdempotencyStore;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * PointService 의 기능을 전용 스레드 풀에서 실행하고 CompletableFuture 로 결과를 돌려줍니다.<p>
+ * 호출한 스레드는 테이블 지연을 기다리지 않고 바로 반환되기 때문에, 서로 독립적인 조회(포인트/내역)를 동시에 진행할 수 있습니다.<p>
+ * 스레드 수와 대기열 크기가 제한되어 있으며, 대기열이 가득 차면 SERVICE_BUSY 로 실패한 future 를 반환합니다.<p>
+ * 충전/사용은 /point 와 같은 PointIdempotencyStore 를 거치므로, 같은 Idempotency-Key 의 재시도는 어느 경로로 들어와도 한 번만 처리됩니다.
+ */
+@Service
+public class PointAsyncService {
+
+	private final PointService pointService;
+	private final PointIdempotencyStore pointIdempotencyStore;
+	private final ThreadPoolExecutor executor;
+
+	public PointAsyncService(PointService pointService, PointIdempotencyStore pointIdempotencyStore,
+		@Value("${point.async.pool-size:32}") int poolSize,
+		@Value("${point.async.queue-capacity:1000}") int queueCapacity) {
+		this.pointService = pointService;
+		this.pointIdempotencyStore = pointIdempotencyStore;
+		AtomicInteger threadCount = new AtomicInteger();
+		this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+			Thread thread = new Thread(runnable, "point-async-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	public CompletableFuture<UserPoint> searchUserPoint(long id) {
+		return submit(() -> pointService.searchUserPoint(id));
+	}
+
+	public CompletableFuture<List<PointHistory>> searchPointHistory(long id) {
+		return submit(() -> pointService.searchPointHistory(id));
+	}
+
+	/**
+	 * 포인트와 그 포인트를 만든 거래까지의 최근 내역을 함께 조회합니다.<p>
+	 * 내역은 조회한 포인트의 version 을 기준으로 고르기 때문에 포인트를 먼저 조회한 뒤 내역을 조회하며,
+	 * 트랜잭션 처리 방식과 관계없이 락을 잡지 않습니다.
+	 */
+	public CompletableFuture<PointSummary> searchSummary(long id, int limit) {
+		return submit(() -> pointService.searchPointSummary(id, limit));
+	}
+
+	/**
+	 * idempotencyKey 가 null 이 아니면 같은 키로 재시도한 요청은 다시 충전하지 않고 처음 결과를 반환합니다.
+	 */
+	public CompletableFuture<UserPoint> charge(long id, long amount, String idempotencyKey) {
+		return submit(() -> pointIdempotencyStore.execute(id, idempotencyKey, TransactionType.CHARGE, amount,
+			() -> pointService.charge(id, amount)));
+	}
+
+	/**
+	 * idempotencyKey 가 null 이 아니면 같은 키로 재시도한 요청은 다시 사용하지 않고 처음 결과를 반환합니다.
+	 */
+	public CompletableFuture<UserPoint> use(long id, long amount, String idempotencyKey) {
+		return submit(() -> pointIdempotencyStore.execute(id, idempotencyKey, TransactionType.USE, amount,
+			() -> pointService.use(id, amount)));
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdown();
+	}
+
+	private <T> CompletableFuture<T> submit(Supplier<T> task) {
+		try {
+			return CompletableFuture.supplyAsync(task, executor);
+		} catch (RejectedExecutionException e) {
+			return CompletableFuture.failedFuture(new CustomException(CustomErrorCode.SERVICE_BUSY));
+		}
+	}
+}
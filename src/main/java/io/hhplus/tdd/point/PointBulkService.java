@@ -0,0 +1,134 @@
+package io.hhplus.tdd.point;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import io.hhplus.tdd.error.CustomErrorCode;
+import io.hhplus.tdd.error.CustomException;
+import io.hhplus.tdd.error.ErrorResponse;
+import io.hhplus.tdd.lock.UserLock;
+import io.hhplus.tdd.lock.UserLockManager;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.metrics.PointOperation;
+import io.hhplus.tdd.validator.ValidatorImpl;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 여러 사용자의 충전/사용 요청을 한 번에 처리합니다.<p>
+ * 요청은 사용자별로 묶여 전용 스레드 풀에서 사용자 단위로 병렬 처리되고,
+ * 같은 사용자의 요청은 사용자 락을 잡은 상태에서 입력 순서대로 처리되기 때문에 다른 요청이 사이에 끼어들지 않습니다.<p>
+ * 한 건이 실패해도 나머지 요청은 계속 처리되며, 결과는 입력 순서대로 건별 성공/실패로 반환됩니다.<p>
+ * 사용자별로 묶기 전에 건별로 검증해서, 비어있는 항목이나 userId/amount 가 없는 항목은 INVALID_REQUEST_BODY,
+ * 충전/사용 구분이 없는 항목은 INVALID_TRANSACTION_TYPE 으로 해당 건만 실패합니다.
+ */
+@Service
+public class PointBulkService {
+
+	private static final Logger log = LoggerFactory.getLogger(PointBulkService.class);
+
+	private final PointService pointService;
+	private final UserLockManager userLockManager;
+	private final ValidatorImpl validator;
+	private final PointMetrics pointMetrics;
+	private final ExecutorService executor;
+
+	public PointBulkService(PointService pointService, UserLockManager userLockManager, ValidatorImpl validator,
+		PointMetrics pointMetrics, @Value("${point.bulk.parallelism:16}") int parallelism) {
+		this.pointService = pointService;
+		this.userLockManager = userLockManager;
+		this.validator = validator;
+		this.pointMetrics = pointMetrics;
+		AtomicInteger threadCount = new AtomicInteger();
+		this.executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+			Thread thread = new Thread(runnable, "point-bulk-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	public List<BulkPointResult> process(List<BulkPointOperation> operations) {
+		return pointMetrics.recordOperation(PointOperation.BULK, () -> {
+			validator.invalidBulkSize(operations.size());
+			BulkPointResult[] results = new BulkPointResult[operations.size()];
+			// 처음 등장한 순서대로 사용자를 묶고, 사용자 안에서는 입력 순서를 유지한다. 검증에 실패한 건은 묶지 않는다.
+			Map<Long, List<Integer>> indexesByUser = new LinkedHashMap<>();
+			for (int i = 0; i < operations.size(); i++) {
+				BulkPointOperation operation = operations.get(i);
+				CustomErrorCode invalid = validate(operation);
+				if (invalid != null) {
+					pointMetrics.countRejection(invalid);
+					results[i] = BulkPointResult.failure(operation,
+						new ErrorResponse(invalid.getCode(), invalid.getMessage()));
+					continue;
+				}
+				indexesByUser.computeIfAbsent(operation.userId(), userId -> new ArrayList<>()).add(i);
+			}
+
+			CompletableFuture<?>[] futures = indexesByUser.entrySet().stream()
+				.map(entry -> CompletableFuture.runAsync(
+					() -> processUser(entry.getKey(), entry.getValue(), operations, results), executor))
+				.toArray(CompletableFuture[]::new);
+			CompletableFuture.allOf(futures).join();
+			return Arrays.asList(results);
+		});
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdown();
+	}
+
+	private void processUser(long userId, List<Integer> indexes, List<BulkPointOperation> operations,
+		BulkPointResult[] results) {
+		// 처리기 안에서 같은 사용자 락을 다시 잡더라도 재진입 가능한 락이기 때문에 막히지 않는다.
+		UserLock userLock = userLockManager.lock(userId);
+		try {
+			for (int index : indexes) {
+				results[index] = apply(operations.get(index));
+			}
+		} finally {
+			userLock.unlock();
+		}
+	}
+
+	/**
+	 * 처리할 수 없는 항목이면 실패 사유를, 처리할 수 있으면 null 을 반환합니다.
+	 */
+	private CustomErrorCode validate(BulkPointOperation operation) {
+		if (operation == null || operation.userId() == null || operation.amount() == null) {
+			return CustomErrorCode.INVALID_REQUEST_BODY;
+		}
+		if (operation.type() == null) {
+			return CustomErrorCode.INVALID_TRANSACTION_TYPE;
+		}
+		return null;
+	}
+
+	private BulkPointResult apply(BulkPointOperation operation) {
+		try {
+			UserPoint userPoint = switch (operation.type()) {
+				case CHARGE -> pointService.charge(operation.userId(), operation.amount());
+				case USE -> pointService.use(operation.userId(), operation.amount());
+			};
+			return BulkPointResult.success(operation, userPoint);
+		} catch (CustomException e) {
+			return BulkPointResult.failure(operation,
+				new ErrorResponse(e.getCustomErrorCode().getCode(), e.getMessage()));
+		} catch (RuntimeException e) {
+			log.error("일괄 처리 중 예기치 못한 오류가 발생했습니다. userId={}", operation.userId(), e);
+			return BulkPointResult.failure(operation, new ErrorResponse("500", "에러가 발생했습니다."));
+		}
+	}
+}
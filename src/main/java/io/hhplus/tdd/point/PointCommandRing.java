@@ -0,0 +1,67 @@
+package io.hhplus.tdd.point;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 여러 스레드가 넣고 한 스레드만 꺼내는 고정 크기 ring buffer 입니다.<p>
+ * 칸마다 sequence 를 두어 넣는 쪽은 tail 을 CAS 로 한 칸 차지한 뒤 값을 기록하고 sequence 를 공개하며,
+ * 꺼내는 쪽은 sequence 가 공개된 칸만 읽습니다. 락을 사용하지 않으며, 가득 차면 offer 가 false 를 반환합니다.
+ */
+final class PointCommandRing<E> {
+
+	private final Object[] buffer;
+	// 칸이 비어있으면 그 칸을 차지할 위치, 값이 기록되었으면 위치 + 1 을 담는다.
+	private final AtomicLongArray sequences;
+	private final int mask;
+	private final AtomicLong tail = new AtomicLong();
+	// 꺼내는 스레드만 읽고 쓴다.
+	private long head;
+
+	PointCommandRing(int capacity) {
+		int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+		this.buffer = new Object[size];
+		this.sequences = new AtomicLongArray(size);
+		this.mask = size - 1;
+		for (int i = 0; i < size; i++) {
+			sequences.set(i, i);
+		}
+	}
+
+	boolean offer(E element) {
+		long position = tail.get();
+		while (true) {
+			int index = (int)position & mask;
+			long difference = sequences.get(index) - position;
+			if (difference == 0) {
+				if (tail.compareAndSet(position, position + 1)) {
+					buffer[index] = element;
+					sequences.set(index, position + 1);
+					return true;
+				}
+				position = tail.get();
+			} else if (difference < 0) {
+				// 한 바퀴 전의 값이 아직 꺼내지지 않았다.
+				return false;
+			} else {
+				position = tail.get();
+			}
+		}
+	}
+
+	/**
+	 * 꺼내는 스레드에서만 호출해야 합니다. 비어있으면 null 을 반환합니다.
+	 */
+	@SuppressWarnings("unchecked")
+	E poll() {
+		int index = (int)head & mask;
+		if (sequences.get(index) != head + 1) {
+			return null;
+		}
+		E element = (E)buffer[index];
+		buffer[index] = null;
+		sequences.set(index, head + buffer.length);
+		head++;
+		return element;
+	}
+}
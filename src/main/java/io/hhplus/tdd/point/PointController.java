@@ -1,16 +1,32 @@
 package io.hhplus.tdd.point;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import io.hhplus.tdd.idempotency.PointIdempotencyStore;
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -20,6 +36,10 @@ public class PointController {
 
 	private static final Logger log = LoggerFactory.getLogger(PointController.class);
 	private final PointService pointService;
+	private final PointBulkService pointBulkService;
+	private final PointAsyncService pointAsyncService;
+	private final PointIdempotencyStore pointIdempotencyStore;
+	private final ObjectMapper objectMapper;
 
 	/**
 	 * TODO - 특정 유저의 포인트를 조회하는 기능을 작성해주세요.
@@ -41,25 +61,118 @@ public class PointController {
 		return pointService.searchPointHistory(id);
 	}
 
+	/**
+	 * 특정 유저의 포인트 충전/이용 내역을 id 기준 cursor 이후부터 limit 개씩 조회합니다.
+	 * from/to 를 지정하면 updateMillis 가 [from, to) 에 속하는 내역만 조회합니다.
+	 */
+	@GetMapping(value = "{id}/histories", params = "limit")
+	public PointHistoryPage historyPage(
+		@PathVariable long id,
+		@RequestParam(defaultValue = "0") long cursor,
+		@RequestParam(defaultValue = "0") long from,
+		@RequestParam(required = false) Long to,
+		@RequestParam int limit
+	) {
+		return pointService.searchPointHistoryPage(id, cursor, from, to == null ? Long.MAX_VALUE : to, limit);
+	}
+
+	/**
+	 * 특정 유저의 포인트와 그 포인트를 만든 거래까지의 최근 충전/이용 내역 limit 개를 함께 반환합니다.
+	 * 포인트를 조회한 뒤에 기록된 거래는 내역에 포함되지 않습니다. 로그에서 최근 내역만 복구(point.wal.history-recovery=TAIL)한
+	 * 경우에는 복구되지 않은 거래가 포함되지 않으므로, 내역의 마지막 거래가 포인트를 만든 거래가 아닐 수 있습니다.
+	 */
+	@GetMapping("{id}/summary")
+	public CompletableFuture<PointSummary> summary(
+		@PathVariable long id,
+		@RequestParam(defaultValue = "20") int limit
+	) {
+		return pointAsyncService.searchSummary(id, limit);
+	}
+
+	/**
+	 * 특정 유저의 충전/이용 합계와 건수, 시간 구간별 집계를 조회합니다.
+	 * 내역이 저장될 때 갱신해 둔 집계를 반환하므로 내역 수와 관계없이 일정한 시간에 응답합니다.
+	 */
+	@GetMapping("{id}/stats")
+	public PointStats stats(
+		@PathVariable long id
+	) {
+		return pointService.searchPointStats(id);
+	}
+
+	/**
+	 * 특정 유저의 포인트 충전/이용 내역 전체를 NDJSON 으로 한 건씩 내려줍니다.
+	 * 내역을 목록으로 모으지 않기 때문에 내역 수와 관계없이 일정한 메모리로 응답합니다.
+	 */
+	@GetMapping(value = "{id}/histories/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> exportHistory(
+		@PathVariable long id
+	) {
+		Stream<PointHistory> histories = pointService.exportPointHistory(id);
+		return ResponseEntity.ok()
+			.contentType(MediaType.APPLICATION_NDJSON)
+			.body(outputStream -> writeNdjson(histories, outputStream));
+	}
+
+	/**
+	 * 모든 유저의 포인트 충전/이용 내역을 id 순서대로 NDJSON 으로 내려줍니다. (야간 정산 배치용)
+	 */
+	@GetMapping(value = "histories/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> exportAllHistory() {
+		Stream<PointHistory> histories = pointService.exportAllPointHistory();
+		return ResponseEntity.ok()
+			.contentType(MediaType.APPLICATION_NDJSON)
+			.body(outputStream -> writeNdjson(histories, outputStream));
+	}
+
 	/**
 	 * TODO - 특정 유저의 포인트를 충전하는 기능을 작성해주세요.
+	 * Idempotency-Key 헤더를 보내면 같은 키로 재시도한 요청은 다시 충전하지 않고 처음 결과를 반환합니다.
 	 */
 	@PatchMapping("{id}/charge")
 	public UserPoint charge(
 		@PathVariable long id,
-		@RequestBody long amount
+		@RequestBody long amount,
+		@RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey
 	) {
-		return pointService.charge(id, amount);
+		return pointIdempotencyStore.execute(id, idempotencyKey, TransactionType.CHARGE, amount,
+			() -> pointService.charge(id, amount));
 	}
 
 	/**
 	 * TODO - 특정 유저의 포인트를 사용하는 기능을 작성해주세요.
+	 * Idempotency-Key 헤더를 보내면 같은 키로 재시도한 요청은 다시 사용하지 않고 처음 결과를 반환합니다.
 	 */
 	@PatchMapping("{id}/use")
 	public UserPoint use(
 		@PathVariable long id,
-		@RequestBody long amount
+		@RequestBody long amount,
+		@RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey
 	) {
-		return pointService.use(id, amount);
+		return pointIdempotencyStore.execute(id, idempotencyKey, TransactionType.USE, amount,
+			() -> pointService.use(id, amount));
+	}
+
+	/**
+	 * 여러 유저의 포인트 충전/사용 요청을 한 번에 처리합니다. (보상 지급 배치용)
+	 * 유저별로 병렬 처리되며 같은 유저의 요청은 입력 순서대로 처리됩니다.
+	 * 실패한 요청이 있어도 나머지는 처리되고, 결과는 입력 순서대로 건별 성공/실패를 담아 반환합니다.
+	 */
+	@PostMapping("bulk")
+	public List<BulkPointResult> bulk(
+		@RequestBody List<BulkPointOperation> operations
+	) {
+		return pointBulkService.process(operations);
+	}
+
+	private void writeNdjson(Stream<PointHistory> histories, OutputStream outputStream) throws IOException {
+		ObjectWriter writer = objectMapper.writerFor(PointHistory.class);
+		OutputStream bufferedOutputStream = new BufferedOutputStream(outputStream);
+		Iterator<PointHistory> iterator = histories.iterator();
+		while (iterator.hasNext()) {
+			bufferedOutputStream.write(writer.writeValueAsBytes(iterator.next()));
+			bufferedOutputStream.write('\n');
+		}
+		bufferedOutputStream.flush();
 	}
 }
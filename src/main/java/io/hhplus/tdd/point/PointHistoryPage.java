@@ -0,0 +1,24 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+
+/**
+ * 포인트 내역 페이지 조회 결과입니다.
+ * 다음 페이지가 있다면 nextCursor 로 이어서 조회하고, 마지막 페이지라면 nextCursor 는 null 입니다.
+ */
+public record PointHistoryPage(
+	List<PointHistory> histories,
+	Long nextCursor
+) {
+
+	/**
+	 * limit 보다 하나 더 조회한 결과로 다음 페이지 존재 여부를 판단합니다.
+	 */
+	static PointHistoryPage of(List<PointHistory> histories, int limit) {
+		if (histories.size() <= limit) {
+			return new PointHistoryPage(histories, null);
+		}
+		List<PointHistory> page = histories.subList(0, limit);
+		return new PointHistoryPage(page, page.get(limit - 1).id());
+	}
+}
@@ -0,0 +1,103 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongFunction;
+
+import org.springframework.stereotype.Component;
+
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.metrics.PointRead;
+
+/**
+ * 같은 사용자에 대한 동시 조회를 하나의 테이블 조회로 합치는 single-flight 조회기입니다.<p>
+ * 사용자마다 진행 중인 조회(flight)가 있으면 새 조회를 시작하지 않고 그 결과를 함께 받습니다.<p>
+ * 호출하는 쪽은 조회 시점의 version(해당 사용자의 쓰기가 반영될 때마다 증가하는 값)을 함께 넘기며,
+ * 진행 중인 조회가 그 version 이후에 시작된 경우에만 합류합니다.
+ * 따라서 포인트를 변경한 뒤 조회하면 변경 이전에 시작된 조회 결과를 받지 않습니다.<p>
+ * 테이블 조회 횟수와 합류한 횟수는 point.read 지표(source=backend/coalesced)로 기록합니다.
+ */
+@Component
+public class PointReadCoalescer {
+
+	private final Flights<UserPoint> userPointFlights;
+	private final Flights<List<PointHistory>> historyFlights;
+
+	public PointReadCoalescer(PointMetrics pointMetrics) {
+		this.userPointFlights = new Flights<>(PointRead.USER_POINT, pointMetrics);
+		this.historyFlights = new Flights<>(PointRead.HISTORY, pointMetrics);
+	}
+
+	public UserPoint readUserPoint(long id, long version, LongFunction<UserPoint> loader) {
+		return userPointFlights.read(id, version, loader);
+	}
+
+	public List<PointHistory> readHistories(long id, long version, LongFunction<List<PointHistory>> loader) {
+		return historyFlights.read(id, version, loader);
+	}
+
+	private static final class Flights<V> {
+
+		private final PointRead read;
+		private final PointMetrics pointMetrics;
+		private final Map<Long, Flight<V>> flights = new ConcurrentHashMap<>();
+
+		Flights(PointRead read, PointMetrics pointMetrics) {
+			this.read = read;
+			this.pointMetrics = pointMetrics;
+		}
+
+		V read(long id, long version, LongFunction<V> loader) {
+			Flight<V> created = new Flight<>(version);
+			while (true) {
+				Flight<V> flight = flights.putIfAbsent(id, created);
+				if (flight == null) {
+					return load(id, created, loader);
+				}
+				if (flight.version >= version) {
+					pointMetrics.countRead(read, true);
+					return await(flight.result);
+				}
+				// 진행 중인 조회가 마지막 쓰기 이전에 시작되었다면 합류하지 않고 새 조회로 교체한다.
+				if (flights.replace(id, flight, created)) {
+					return load(id, created, loader);
+				}
+			}
+		}
+
+		private V load(long id, Flight<V> flight, LongFunction<V> loader) {
+			pointMetrics.countRead(read, false);
+			try {
+				V result = loader.apply(id);
+				flight.result.complete(result);
+				return result;
+			} catch (RuntimeException e) {
+				flight.result.completeExceptionally(e);
+				throw e;
+			} finally {
+				flights.remove(id, flight);
+			}
+		}
+
+		private V await(CompletableFuture<V> result) {
+			try {
+				return result.join();
+			} catch (CompletionException e) {
+				if (e.getCause() instanceof RuntimeException cause) {
+					throw cause;
+				}
+				throw e;
+			}
+		}
+	}
+
+	private record Flight<V>(long version, CompletableFuture<V> result) {
+
+		Flight(long version) {
+			this(version, new CompletableFuture<>());
+		}
+	}
+}
@@ -0,0 +1,49 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.error.CustomErrorCode;
+import io.hhplus.tdd.error.CustomException;
+
+/**
+ * 포인트 충전/사용을 예외 없이 처리한 결과입니다. 성공하면 userPoint 에 처리 후 포인트가,
+ * 거절되면 rejection 에 거절 사유와 메시지에 들어갈 detail 이 담깁니다.<p>
+ * 거절을 예외로 던지지 않고 값으로 전달하므로, 거절된 요청을 모아 처리하는 곳에서는 예외를 만들지 않고 결과를 확인합니다.
+ */
+public record PointResult(
+	UserPoint userPoint,
+	CustomErrorCode rejection,
+	long detail
+) {
+
+	private static final PointResult INVALID_USE_AMOUNT = new PointResult(null, CustomErrorCode.INVALID_USE_AMOUNT, 0L);
+
+	static PointResult success(UserPoint userPoint) {
+		return new PointResult(userPoint, null, 0L);
+	}
+
+	static PointResult invalidUseAmount() {
+		return INVALID_USE_AMOUNT;
+	}
+
+	static PointResult rejected(CustomErrorCode rejection, long detail) {
+		return new PointResult(null, rejection, detail);
+	}
+
+	public boolean isRejected() {
+		return rejection != null;
+	}
+
+	/**
+	 * 거절 사유를 stack trace 없는 CustomException 으로 바꿉니다. 메시지는 필요할 때 포맷됩니다.
+	 */
+	public CustomException toException() {
+		return rejection == CustomErrorCode.INVALID_USE_AMOUNT ? new CustomException(rejection)
+			: new CustomException(rejection, detail);
+	}
+
+	public UserPoint orThrow() {
+		if (isRejected()) {
+			throw toException();
+		}
+		return userPoint;
+	}
+}
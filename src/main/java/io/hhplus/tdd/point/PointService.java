@@ -1,13 +1,17 @@
 package io.hhplus.tdd.point;
 
 import java.util.List;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
 
 import org.springframework.stereotype.Service;
 
+import io.hhplus.tdd.cache.UserPointCache;
 import io.hhplus.tdd.database.PointHistoryTable;
 import io.hhplus.tdd.database.UserPointTable;
-import io.hhplus.tdd.lock.UserLockManager;
+import io.hhplus.tdd.database.VersionedUserPoint;
+import io.hhplus.tdd.history.PointHistoryWriter;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.metrics.PointOperation;
 import io.hhplus.tdd.validator.ValidatorImpl;
 import lombok.RequiredArgsConstructor;
 
@@ -18,70 +22,113 @@ public class PointService {
 	private final PointHistoryTable pointHistoryTable;
 	private final UserPointTable userPointTable;
 	private final ValidatorImpl validator;
-	private final UserLockManager userLockManager;
+	private final PointTransactionHandler pointTransactionHandler;
+	private final PointHistoryWriter pointHistoryWriter;
+	private final UserPointCache userPointCache;
+	private final PointMetrics pointMetrics;
+	private final PointReadCoalescer pointReadCoalescer;
 
 	public UserPoint searchUserPoint(long id) {
-		validator.invalidId(id);
-		return userPointTable.selectById(id);
+		return pointMetrics.recordOperation(PointOperation.SEARCH, () -> {
+			validator.invalidId(id);
+			// 캐시에 없는 사용자를 동시에 조회하면 테이블 조회 한 번의 결과를 함께 받는다.
+			return userPointCache.get(id, userId -> pointReadCoalescer.readUserPoint(userId,
+				userPointCache.writeVersion(userId), userPointTable::selectById));
+		});
 	}
 
 	// 해당하는 유저의 포인트 충전/이용내역을 조회한다.
 	public List<PointHistory> searchPointHistory(long id) {
-		validator.invalidId(id);
-		List<PointHistory> histories = pointHistoryTable.selectAllByUserId(id);
-		for (PointHistory history : histories) {
-			validator.invalidAmount(history.amount());
-		}
-		return histories;
+		return pointMetrics.recordOperation(PointOperation.HISTORY, () -> {
+			validator.invalidId(id);
+			// 해당 사용자의 아직 저장되지 않은 내역이 있다면 반영된 이후에 조회한다.
+			pointHistoryWriter.flush(id);
+			// 내역 수가 같은 동안에는 동시에 들어온 조회가 한 번의 조회 결과를 함께 받는다.
+			// 내역은 저장할 때 검증했으므로 저장된 내역을 다시 검증하지 않고 그대로 반환한다.
+			return pointReadCoalescer.readHistories(id, pointHistoryTable.countByUserId(id),
+				pointHistoryTable::selectAllByUserId);
+		});
 	}
 
-	/**
-	 * 	동시성 제어를 하려면?<p>
-	 * 	동일한 사용자에 대해서 여러 스레드에서 충전 작업이 이루어질 경우 이 동시 접근에 대한 제어가 필요하다. <p>
-	 * 	각 사용자에 대한 개별적인 ReetrantLock을 사용하면 동일한 사용자에 대해서 여러 스레드에서 충전 작업이 이루어질 경우 동시 접근에 대한 제어가 가능하다. <p>
-	 * 	각기 다른 사용자에 대한 충전작업이 동시에 이루어질 경우 각 사용자에 대해 개별적 ReetrantLock을 사용하기에 병렬적으로 작업이 이루어진다.
-	 */
+	// 해당하는 유저의 포인트 충전/이용내역을 cursor 이후부터 limit 개씩 조회한다.
+	public PointHistoryPage searchPointHistoryPage(long id, long cursor, long fromMillis, long toMillis, int limit) {
+		return pointMetrics.recordOperation(PointOperation.HISTORY_PAGE, () -> {
+			validator.invalidId(id);
+			validator.invalidLimit(limit);
+			validator.invalidTimeRange(fromMillis, toMillis);
+			pointHistoryWriter.flush(id);
+			// 다음 페이지가 있는지 확인하기 위해 하나 더 조회한다.
+			return PointHistoryPage.of(pointHistoryTable.selectPageByUserId(id, cursor, fromMillis, toMillis,
+				limit + 1), limit);
+		});
+	}
+
+	// 해당하는 유저의 가장 최근 포인트 충전/이용내역을 limit 개 조회한다.
+	public List<PointHistory> searchRecentPointHistory(long id, int limit) {
+		return pointMetrics.recordOperation(PointOperation.HISTORY_RECENT, () -> {
+			validator.invalidId(id);
+			validator.invalidLimit(limit);
+			pointHistoryWriter.flush(id);
+			return pointHistoryTable.selectRecentByUserId(id, limit);
+		});
+	}
+
+	// 해당하는 유저의 포인트 충전/이용 집계를 내역을 다시 읽지 않고 조회한다.
+	public PointStats searchPointStats(long id) {
+		return pointMetrics.recordOperation(PointOperation.STATS, () -> {
+			validator.invalidId(id);
+			pointHistoryWriter.flush(id);
+			return pointHistoryTable.selectStatsByUserId(id);
+		});
+	}
+
+	// 포인트와 그 포인트를 만든 거래까지의 최근 내역을 조회한다.
+	// 모든 트랜잭션 처리기는 내역을 기록한 뒤 포인트를 변경하므로, 포인트를 먼저 조회하고 사용자의 내역 저장을 기다리면
+	// 조회한 version 까지의 내역은 모두 저장되어 있다. 그 이후에 기록된 내역은 version 으로 제외한다.
+	// 내역 조회는 지연이 없는 메모리 조회이므로 포인트 조회와 병렬로 실행하지 않고, 포인트 조회 한 번의 지연만 발생한다.
+	public PointSummary searchPointSummary(long id, int limit) {
+		return pointMetrics.recordOperation(PointOperation.SUMMARY, () -> {
+			validator.invalidId(id);
+			validator.invalidLimit(limit);
+			VersionedUserPoint current = userPointTable.selectVersionedById(id);
+			pointHistoryWriter.flush(id);
+			return new PointSummary(current.userPoint(),
+				pointHistoryTable.selectRecentByUserId(id, limit, current.version()));
+		});
+	}
+
+	// 해당하는 유저의 포인트 충전/이용내역을 목록으로 만들지 않고 순서대로 내보낸다.
+	// 내보내기 지표는 내역 저장을 기다려 스트림을 만들기까지의 시간이며, 응답을 보내는 시간은 http.server.requests 로 확인한다.
+	public Stream<PointHistory> exportPointHistory(long id) {
+		return pointMetrics.recordOperation(PointOperation.EXPORT, () -> {
+			validator.invalidId(id);
+			pointHistoryWriter.flush(id);
+			return pointHistoryTable.streamByUserId(id);
+		});
+	}
+
+	// 모든 유저의 포인트 충전/이용내역을 id 순서대로 내보낸다.
+	public Stream<PointHistory> exportAllPointHistory() {
+		return pointMetrics.recordOperation(PointOperation.EXPORT_ALL, () -> {
+			pointHistoryWriter.flush();
+			return pointHistoryTable.streamAll();
+		});
+	}
 
 	public UserPoint charge(long id, long amount) {
-		// 입력받은 값들을 검증하는 로직
-		validator.invalidId(id);
-		validator.invalidAmount(amount);
-		ReentrantLock userLock = userLockManager.getUserLock(id);
-		userLock.lock();
-		try {
-			UserPoint userPoint = userPointTable.selectById(id);
-			// 유저 정보를 가져오고 이를 검증하고 새로운 객체를 반환하는 역할을 밖으로 뺀다.
-			UserPoint afterChargedUserPoint = userPoint.charge(amount);
-			// 유저 포인트 저장하기
-			UserPoint resultUserPoint = userPointTable.insertOrUpdate(afterChargedUserPoint.id(),
-				afterChargedUserPoint.point());
-			// 히스토리에 저장하는 기능
-			pointHistoryTable.insert(resultUserPoint.id(), resultUserPoint.point(), TransactionType.CHARGE,
-				System.currentTimeMillis());
-			return resultUserPoint;
-		} finally {
-			userLock.unlock();
-		}
+		return pointMetrics.recordOperation(PointOperation.CHARGE, () -> {
+			// 입력받은 값들을 검증하는 로직
+			validator.invalidId(id);
+			validator.invalidAmount(amount);
+			return pointTransactionHandler.charge(id, amount);
+		});
 	}
 
 	public UserPoint use(long id, long amount) {
-		validator.invalidId(id);
-		validator.invalidAmount(amount);
-		// UserPoint 객체를 가져온다.
-		ReentrantLock userLock = userLockManager.getUserLock(id);
-		userLock.lock();
-		try {
-			UserPoint userPoint = userPointTable.selectById(id);
-			// UserPoint에서 처리
-			UserPoint afterUsedUserPoint = userPoint.use(amount);
-			// 유저 포인트 저장하기
-			UserPoint resultUserPoint = userPointTable.insertOrUpdate(afterUsedUserPoint.id(),
-				afterUsedUserPoint.point());
-			pointHistoryTable.insert(resultUserPoint.id(), resultUserPoint.point(), TransactionType.USE,
-				System.currentTimeMillis());
-			return resultUserPoint;
-		} finally {
-			userLock.unlock();
-		}
+		return pointMetrics.recordOperation(PointOperation.USE, () -> {
+			validator.invalidId(id);
+			validator.invalidAmount(amount);
+			return pointTransactionHandler.use(id, amount);
+		});
 	}
 }
@@ -0,0 +1,22 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+
+/**
+ * 사용자의 포인트 충전/이용 집계입니다. 내역이 저장될 때마다 갱신되므로 내역을 다시 읽지 않고 조회합니다.<p>
+ * 합계는 내역과 함께 기록된 요청의 충전/이용 금액으로 계산합니다.
+ * buckets 는 point.table.stats-interval 단위로 나눈 최근 구간의 집계이며 오래된 순서로 정렬되어 있습니다.
+ */
+public record PointStats(
+	long userId,
+	long chargeCount,
+	long totalCharged,
+	long useCount,
+	long totalUsed,
+	List<PointStatsBucket> buckets
+) {
+
+	public static PointStats empty(long userId) {
+		return new PointStats(userId, 0L, 0L, 0L, 0L, List.of());
+	}
+}
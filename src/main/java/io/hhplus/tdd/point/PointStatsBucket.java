@@ -0,0 +1,13 @@
+package io.hhplus.tdd.point;
+
+/**
+ * [startMillis, startMillis + 구간 길이) 에 기록된 내역의 충전/이용 집계입니다.
+ */
+public record PointStatsBucket(
+	long startMillis,
+	long chargeCount,
+	long totalCharged,
+	long useCount,
+	long totalUsed
+) {
+}
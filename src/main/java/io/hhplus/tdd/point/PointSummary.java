@@ -0,0 +1,13 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+
+/**
+ * 사용자의 포인트와 최근 충전/이용 내역입니다. 내역은 오래된 순서로 정렬되어 있습니다.<p>
+ * recentHistories 는 userPoint 를 만든 거래까지의 내역이며, 포인트를 조회한 뒤에 기록된 거래는 포함하지 않습니다.
+ */
+public record PointSummary(
+	UserPoint userPoint,
+	List<PointHistory> recentHistories
+) {
+}
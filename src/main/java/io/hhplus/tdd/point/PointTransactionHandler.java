@@ -0,0 +1,19 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 포인트 충전/사용 트랜잭션을 실제로 처리하는 전략입니다.<p>
+ * 입력값 검증은 PointService 에서 끝난 상태로 호출되며, point.transaction.mode 설정으로 구현체를 선택합니다.
+ * <ul>
+ *     <li>lock : 사용자별 ReentrantLock 으로 요청을 하나씩 처리합니다. (기본값)</li>
+ *     <li>batch : 사용자별로 대기 중인 요청을 모아 한 번의 조회/저장으로 처리합니다.</li>
+ *     <li>optimistic : 락 없이 version 비교로 포인트를 변경하고, 충돌하면 재시도합니다.</li>
+ *     <li>event-loop : 사용자 id 로 나눈 shard 마다 전용 스레드 하나가 ring buffer 에 쌓인 요청을 락 없이 처리합니다.</li>
+ * </ul>
+ */
+public interface PointTransactionHandler {
+
+	UserPoint charge(long id, long amount);
+
+	UserPoint use(long id, long amount);
+
+}
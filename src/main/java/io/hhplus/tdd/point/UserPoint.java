@@ -16,23 +16,37 @@ public record UserPoint(long id, long point, long updateMillis) {
 	}
 
 	UserPoint charge(long point) {
+		return tryCharge(point).orThrow();
+	}
+
+	UserPoint use(long amount) {
+		return tryUse(amount).orThrow();
+	}
+
+	/**
+	 * 충전 정책을 위반하면 예외를 던지지 않고 거절 결과를 반환합니다.
+	 */
+	PointResult tryCharge(long point) {
 		final long MAX_POINT = 100000L;
 		long result = this.point + point;
 		if (result > MAX_POINT) {
-			throw new CustomException(CustomErrorCode.EXCEEDED_CHARGE_POINT, result);
+			return PointResult.rejected(CustomErrorCode.EXCEEDED_CHARGE_POINT, result);
 		}
-		return new UserPoint(id, result, System.currentTimeMillis());
+		return PointResult.success(new UserPoint(id, result, System.currentTimeMillis()));
 	}
 
-	UserPoint use(long amount) {
+	/**
+	 * 사용 정책을 위반하거나 잔액이 부족하면 예외를 던지지 않고 거절 결과를 반환합니다.
+	 */
+	PointResult tryUse(long amount) {
 		final long MIN_POINT = 100L;
 		if (amount < MIN_POINT) {
-			throw new CustomException(CustomErrorCode.INVALID_USE_AMOUNT);
+			return PointResult.invalidUseAmount();
 		}
 		long result = this.point - amount;
 		if (result < 0) {
-			throw new CustomException(CustomErrorCode.OVER_USED_POINT, this.point);
+			return PointResult.rejected(CustomErrorCode.OVER_USED_POINT, this.point);
 		}
-		return new UserPoint(id, result, System.currentTimeMillis());
+		return PointResult.success(new UserPoint(id, result, System.currentTimeMillis()));
 	}
 }
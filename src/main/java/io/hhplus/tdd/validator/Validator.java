@@ -6,4 +6,12 @@ public interface Validator {
 
 	void invalidAmount(long amount);
 
+	void invalidLimit(int limit);
+
+	void invalidTimeRange(long fromMillis, long toMillis);
+
+	void invalidBulkSize(int size);
+
+	void invalidIdempotencyKey(String key);
+
 }
@@ -20,4 +20,35 @@ public class ValidatorImpl implements Validator {
 			throw new CustomException(CustomErrorCode.INVALID_AMOUNT);
 		}
 	}
+
+	@Override
+	public void invalidLimit(int limit) {
+		final int MAX_LIMIT = 1000;
+		if (limit <= 0 || limit > MAX_LIMIT) {
+			throw new CustomException(CustomErrorCode.INVALID_LIMIT, MAX_LIMIT);
+		}
+	}
+
+	@Override
+	public void invalidTimeRange(long fromMillis, long toMillis) {
+		if (fromMillis >= toMillis) {
+			throw new CustomException(CustomErrorCode.INVALID_TIME_RANGE);
+		}
+	}
+
+	@Override
+	public void invalidBulkSize(int size) {
+		final int MAX_BULK_SIZE = 10000;
+		if (size <= 0 || size > MAX_BULK_SIZE) {
+			throw new CustomException(CustomErrorCode.INVALID_BULK_SIZE, MAX_BULK_SIZE);
+		}
+	}
+
+	@Override
+	public void invalidIdempotencyKey(String key) {
+		final int MAX_KEY_LENGTH = 255;
+		if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+			throw new CustomException(CustomErrorCode.INVALID_IDEMPOTENCY_KEY, MAX_KEY_LENGTH);
+		}
+	}
 }
@@ -0,0 +1,106 @@
+package io.hhplus.tdd.wal;
+
+/**
+ * 스냅샷을 만들거나 읽을 때 사용하는 사용자별 잔액 모음입니다.<p>
+ * 천만 명 규모에서도 사용자마다 객체를 만들지 않도록 id/point/updateMillis/version 을 각각 long 배열에 담는 open addressing 해시 테이블입니다.
+ * 사용자 id 는 항상 양수이기 때문에 0 을 빈 칸으로 사용합니다.<p>
+ * 같은 사용자의 잔액은 version 이 더 큰 경우에만 덮어쓰므로, 로그에 기록된 순서와 관계없이 가장 최근 거래의 잔액이 남습니다.
+ */
+final class BalanceImage {
+
+	private static final int INITIAL_CAPACITY = 1 << 10;
+
+	private long[] ids;
+	private long[] points;
+	private long[] updateMillis;
+	private long[] versions;
+	private int size;
+
+	BalanceImage() {
+		this(INITIAL_CAPACITY);
+	}
+
+	BalanceImage(int expectedSize) {
+		allocate(capacityFor(expectedSize));
+	}
+
+	void put(long id, long point, long updateMillis, long version) {
+		if ((size + 1) * 2L > ids.length) {
+			resize(ids.length * 2);
+		}
+		int slot = slotOf(id);
+		if (ids[slot] == 0) {
+			ids[slot] = id;
+			size++;
+		} else if (versions[slot] >= version) {
+			return;
+		}
+		points[slot] = point;
+		this.updateMillis[slot] = updateMillis;
+		versions[slot] = version;
+	}
+
+	int size() {
+		return size;
+	}
+
+	void forEach(BalanceVisitor visitor) {
+		for (int slot = 0; slot < ids.length; slot++) {
+			if (ids[slot] != 0) {
+				visitor.visit(ids[slot], points[slot], updateMillis[slot], versions[slot]);
+			}
+		}
+	}
+
+	private int slotOf(long id) {
+		int mask = ids.length - 1;
+		int slot = (int)mix(id) & mask;
+		while (ids[slot] != 0 && ids[slot] != id) {
+			slot = (slot + 1) & mask;
+		}
+		return slot;
+	}
+
+	private void resize(int capacity) {
+		long[] oldIds = ids;
+		long[] oldPoints = points;
+		long[] oldUpdateMillis = updateMillis;
+		long[] oldVersions = versions;
+		allocate(capacity);
+		for (int slot = 0; slot < oldIds.length; slot++) {
+			if (oldIds[slot] != 0) {
+				int newSlot = slotOf(oldIds[slot]);
+				ids[newSlot] = oldIds[slot];
+				points[newSlot] = oldPoints[slot];
+				updateMillis[newSlot] = oldUpdateMillis[slot];
+				versions[newSlot] = oldVersions[slot];
+			}
+		}
+	}
+
+	private void allocate(int capacity) {
+		ids = new long[capacity];
+		points = new long[capacity];
+		updateMillis = new long[capacity];
+		versions = new long[capacity];
+	}
+
+	private static int capacityFor(int expectedSize) {
+		return Math.max(INITIAL_CAPACITY, Integer.highestOneBit(Math.max(1, expectedSize) * 2 - 1) << 1);
+	}
+
+	// 연속된 id 가 이웃한 칸에 몰리지 않도록 비트를 섞는다. (murmur3 finalizer)
+	private static long mix(long id) {
+		long hash = id;
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb9fe1a85ec53L;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+
+	interface BalanceVisitor {
+		void visit(long id, long point, long updateMillis, long version);
+	}
+}
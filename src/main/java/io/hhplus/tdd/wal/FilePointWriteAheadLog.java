@@ -0,0 +1,429 @@
+package io.hhplus.tdd.wal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import io.hhplus.tdd.database.PointHistoryEntry;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 거래를 FileChannel 기반의 append-only 로그에 기록합니다.<p>
+ * 요청 스레드는 공유 버퍼에 레코드를 쓰고 기다리며, 전용 flusher 스레드가 그 사이 쌓인 레코드를 한 번에 쓰고
+ * 한 번의 fsync(force) 로 반영한 뒤 기다리던 스레드를 모두 깨웁니다. (group commit)
+ * 따라서 fsync 횟수는 요청 수가 아니라 flush 주기마다 한 번입니다.
+ * fsync 직후에는 깨어난 스레드들이 다음 요청을 기록하기 전이라, 바로 flush 하면 몇 건만 담긴 fsync 가 반복됩니다.
+ * 그래서 flusher 는 직전 flush 에 담긴 만큼 레코드가 쌓이거나 point.wal.group-commit-delay-micros 가 지날 때까지 기다렸다가 flush 합니다.
+ * 직전 flush 가 한 건이었다면 기다리지 않으므로 동시 요청이 없을 때의 지연은 늘지 않습니다.<p>
+ * 애플리케이션이 시작될 때 로그를 처음부터 읽어 UserPointTable 과 PointHistoryTable 을 복구하고,
+ * 마지막에 잘린 레코드가 있다면 잘라낸 뒤 그 위치부터 이어서 기록합니다.
+ * 잔액은 사용자별로 version 이 가장 큰 레코드의 잔액으로, 포인트의 version 도 그 값으로 복구합니다.
+ * 레코드 형식이 다른 로그는 복구하지 않고 시작을 멈춥니다.<p>
+ * point.wal.snapshot-interval-millis 마다 잔액 스냅샷을 만듭니다. 스냅샷은 이전 스냅샷에 그 이후 fsync 된 로그를 더해 만들기 때문에
+ * 테이블이나 기록 중인 요청을 멈추지 않고, 스냅샷에 담긴 잔액은 정확히 high-water mark 까지의 로그와 일치합니다.
+ * 스냅샷이 있으면 잔액은 스냅샷을 읽고 그 이후의 로그만 반영해 복구합니다.
+ * 내역은 로그 자체가 저장소이기 때문에, point.wal.history-recovery 가 FULL 이면 처음부터 순서대로 다시 저장하고
+ * TAIL 이면 스냅샷 이후의 내역만 저장해 복구 시간이 전체 내역 수와 관계없도록 합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "point.wal.enabled", havingValue = "true")
+public class FilePointWriteAheadLog implements PointWriteAheadLog {
+
+	private static final Logger log = LoggerFactory.getLogger(FilePointWriteAheadLog.class);
+	private static final int BUFFER_SIZE = PointLogRecord.SIZE * 4096;
+
+	private final FileChannel channel;
+	private final Path snapshotPath;
+	// 이 객체가 열릴 때의 로그 길이. 레코드 길이가 고정되어 있으므로 fsync 된 로그 길이는 baseLength + syncedCount * SIZE 이다.
+	private final long baseLength;
+	// 스냅샷은 한 번에 하나씩만 만든다.
+	private final ReentrantLock snapshotLock = new ReentrantLock();
+	private final ScheduledExecutorService snapshotScheduler;
+	// 버퍼에 기록할 때 사용하는 락과 디스크 반영을 기다릴 때 사용하는 락을 나누어,
+	// fsync 후 깨어난 스레드들이 다음 요청의 버퍼 기록을 막지 않도록 한다.
+	private final ReentrantLock appendLock = new ReentrantLock();
+	private final Condition appended = appendLock.newCondition();
+	private final ReentrantLock syncLock = new ReentrantLock();
+	private final Condition synced = syncLock.newCondition();
+	private final Thread flusher;
+	private final long groupCommitDelayNanos;
+	// 요청 스레드가 기록하는 버퍼와 flusher 가 파일에 쓰는 버퍼를 번갈아 사용한다.
+	private ByteBuffer pending = ByteBuffer.allocate(BUFFER_SIZE);
+	private ByteBuffer flushing = ByteBuffer.allocate(BUFFER_SIZE);
+	// 버퍼에 기록된 레코드 수와 디스크에 반영된 레코드 수. 요청 스레드는 자신의 순번이 반영될 때까지 기다린다.
+	private long appendedCount;
+	// flusher 가 기다리는 레코드 수. 버퍼에 기록된 레코드 수가 이 값에 이르면 flusher 를 깨운다.
+	private long awaitedCount = 1;
+	private volatile long syncedCount;
+	private volatile IOException failure;
+	private boolean running = true;
+
+	public FilePointWriteAheadLog(String path, UserPointTable userPointTable, PointHistoryTable pointHistoryTable)
+		throws IOException {
+		this(path, path + ".snapshot", 0, 0, HistoryRecovery.FULL, userPointTable, pointHistoryTable);
+	}
+
+	/**
+	 * snapshotIntervalMillis 가 0 이하라면 주기적으로 스냅샷을 만들지 않습니다. (snapshot 을 직접 호출할 수는 있습니다)
+	 * groupCommitDelayMicros 가 0 이하라면 레코드가 쌓이기를 기다리지 않고 바로 flush 합니다.
+	 */
+	@Autowired
+	public FilePointWriteAheadLog(@Value("${point.wal.path:data/point.wal}") String path,
+		@Value("${point.wal.snapshot-path:data/point.snapshot}") String snapshotPath,
+		@Value("${point.wal.snapshot-interval-millis:60000}") long snapshotIntervalMillis,
+		@Value("${point.wal.group-commit-delay-micros:300}") long groupCommitDelayMicros,
+		@Value("${point.wal.history-recovery:FULL}") HistoryRecovery historyRecovery,
+		UserPointTable userPointTable, PointHistoryTable pointHistoryTable) throws IOException {
+		Path file = Path.of(path);
+		if (file.getParent() != null) {
+			Files.createDirectories(file.getParent());
+		}
+		this.snapshotPath = Path.of(snapshotPath);
+		this.groupCommitDelayNanos = TimeUnit.MICROSECONDS.toNanos(Math.max(0, groupCommitDelayMicros));
+		this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+			StandardOpenOption.WRITE);
+		try {
+			checkHeader(file);
+		} catch (IOException e) {
+			channel.close();
+			throw e;
+		}
+		this.baseLength = replay(historyRecovery, userPointTable, pointHistoryTable);
+		channel.truncate(baseLength);
+		channel.position(baseLength);
+		this.flusher = new Thread(this::flushLoop, "point-wal-flusher");
+		this.flusher.setDaemon(true);
+		this.flusher.start();
+		if (snapshotIntervalMillis > 0) {
+			this.snapshotScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "point-wal-snapshot");
+				thread.setDaemon(true);
+				return thread;
+			});
+			snapshotScheduler.scheduleWithFixedDelay(this::scheduledSnapshot, snapshotIntervalMillis,
+				snapshotIntervalMillis, TimeUnit.MILLISECONDS);
+		} else {
+			this.snapshotScheduler = null;
+		}
+	}
+
+	@Override
+	public void append(PointHistoryEntry entry) {
+		appendAll(List.of(entry));
+	}
+
+	/**
+	 * 버퍼를 한 번만 잠그고 모든 레코드를 기록하므로, 레코드들은 같은 flush 에서 함께 파일에 쓰이고 fsync 됩니다.
+	 */
+	@Override
+	public void appendAll(List<PointHistoryEntry> entries) {
+		if (entries.isEmpty()) {
+			return;
+		}
+		long sequence;
+		appendLock.lock();
+		try {
+			if (failure != null) {
+				throw new UncheckedIOException("포인트 로그 기록에 실패한 이후에는 기록할 수 없습니다.", failure);
+			}
+			if (!running) {
+				throw new IllegalStateException("포인트 로그가 이미 닫혔습니다.");
+			}
+			ensureCapacity(entries.size());
+			for (PointHistoryEntry entry : entries) {
+				PointLogRecord.write(pending, entry);
+			}
+			appendedCount += entries.size();
+			sequence = appendedCount;
+			if (appendedCount >= awaitedCount) {
+				appended.signal();
+			}
+		} finally {
+			appendLock.unlock();
+		}
+		awaitSynced(sequence);
+	}
+
+	/**
+	 * 이전 스냅샷에 그 이후 fsync 된 로그를 더해 새 스냅샷을 만들고, 스냅샷에 반영된 로그 길이를 반환합니다.<p>
+	 * 로그 파일만 읽기 때문에 기록 중인 요청을 멈추지 않습니다.
+	 */
+	public long snapshot() throws IOException {
+		snapshotLock.lock();
+		try {
+			long highWaterMark = baseLength + syncedCount * PointLogRecord.SIZE;
+			PointSnapshotFile.Snapshot previous = readSnapshot();
+			BalanceImage balances = previous == null ? new BalanceImage() : previous.balances();
+			long from = previous == null ? PointLogRecord.HEADER_SIZE : previous.logOffset();
+			if (previous != null && from == highWaterMark) {
+				return highWaterMark;
+			}
+			scan(from, highWaterMark, record -> balances.put(record.userId(), record.amount(), record.updateMillis(),
+				record.version()));
+			PointSnapshotFile.write(snapshotPath, balances, highWaterMark);
+			return highWaterMark;
+		} finally {
+			snapshotLock.unlock();
+		}
+	}
+
+	/**
+	 * 버퍼에 남은 레코드를 모두 반영한 뒤 파일을 닫습니다.
+	 */
+	@PreDestroy
+	public void close() throws IOException {
+		if (snapshotScheduler != null) {
+			snapshotScheduler.shutdownNow();
+		}
+		appendLock.lock();
+		try {
+			running = false;
+			appended.signal();
+		} finally {
+			appendLock.unlock();
+		}
+		try {
+			flusher.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		channel.close();
+	}
+
+	private void flushLoop() {
+		long lastBatch = 1;
+		while (true) {
+			long target;
+			appendLock.lock();
+			try {
+				awaitedCount = syncedCount + 1;
+				while (running && pending.position() == 0) {
+					appended.awaitUninterruptibly();
+				}
+				if (pending.position() == 0) {
+					return;
+				}
+				awaitBatch(syncedCount + lastBatch);
+				ByteBuffer full = pending;
+				pending = flushing;
+				flushing = full;
+				target = appendedCount;
+				lastBatch = target - syncedCount;
+			} finally {
+				appendLock.unlock();
+			}
+
+			IOException error = null;
+			try {
+				flushing.flip();
+				while (flushing.hasRemaining()) {
+					channel.write(flushing);
+				}
+				channel.force(false);
+			} catch (IOException e) {
+				log.error("포인트 로그 기록에 실패했습니다.", e);
+				error = e;
+			} finally {
+				flushing.clear();
+			}
+
+			syncLock.lock();
+			try {
+				if (error != null) {
+					failure = error;
+				} else {
+					syncedCount = target;
+				}
+				synced.signalAll();
+			} finally {
+				syncLock.unlock();
+			}
+			if (error != null) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * 버퍼에 기록된 레코드 수가 count 에 이르거나 group commit 지연 시간이 지날 때까지 기다린다. appendLock 을 잡고 호출한다.
+	 */
+	private void awaitBatch(long count) {
+		awaitedCount = count;
+		long nanos = groupCommitDelayNanos;
+		try {
+			while (running && appendedCount < count && nanos > 0) {
+				nanos = appended.awaitNanos(nanos);
+			}
+		} catch (InterruptedException e) {
+			// 인터럽트 상태로 FileChannel 에 쓰면 채널이 닫히므로, 기다리기만 멈추고 바로 flush 한다.
+			log.warn("group commit 대기 중 인터럽트되어 바로 기록합니다.");
+		}
+	}
+
+	private void awaitSynced(long sequence) {
+		if (syncedCount >= sequence) {
+			return;
+		}
+		syncLock.lock();
+		try {
+			while (syncedCount < sequence) {
+				if (failure != null) {
+					throw new UncheckedIOException("포인트 로그 기록에 실패했습니다.", failure);
+				}
+				synced.awaitUninterruptibly();
+			}
+		} finally {
+			syncLock.unlock();
+		}
+	}
+
+	/**
+	 * 요청이 몰려 flush 가 끝나기 전에 버퍼가 가득 차면 버퍼를 늘린다.
+	 */
+	private void ensureCapacity(int records) {
+		long required = (long)records * PointLogRecord.SIZE;
+		if (pending.remaining() >= required) {
+			return;
+		}
+		long capacity = pending.capacity();
+		while (capacity - pending.position() < required) {
+			capacity *= 2;
+		}
+		ByteBuffer larger = ByteBuffer.allocate(Math.toIntExact(capacity));
+		pending.flip();
+		larger.put(pending);
+		pending = larger;
+	}
+
+	private void scheduledSnapshot() {
+		try {
+			long startedAt = System.nanoTime();
+			long highWaterMark = snapshot();
+			log.info("포인트 스냅샷을 만들었습니다. logOffset={}, {}ms", highWaterMark,
+				(System.nanoTime() - startedAt) / 1_000_000);
+		} catch (IOException | RuntimeException e) {
+			log.error("포인트 스냅샷을 만들지 못했습니다.", e);
+		}
+	}
+
+	/**
+	 * 새 로그라면 헤더를 기록하고, 이미 있는 로그라면 이 형식으로 기록된 로그인지 확인합니다.
+	 * 헤더보다 짧은 로그는 헤더를 기록하던 중 종료된 것이므로 레코드가 없어 새로 만듭니다.
+	 */
+	private void checkHeader(Path file) throws IOException {
+		ByteBuffer header = ByteBuffer.allocate(PointLogRecord.HEADER_SIZE);
+		if (channel.size() < PointLogRecord.HEADER_SIZE) {
+			channel.truncate(0);
+			PointLogRecord.writeHeader(header);
+			header.flip();
+			while (header.hasRemaining()) {
+				channel.write(header, header.position());
+			}
+			channel.force(false);
+			return;
+		}
+		while (header.hasRemaining()) {
+			channel.read(header, header.position());
+		}
+		if (!PointLogRecord.readHeader(header.flip())) {
+			throw new IOException("형식이 다른 포인트 로그는 복구할 수 없습니다. path=" + file);
+		}
+	}
+
+	/**
+	 * 스냅샷이 있으면 잔액을 먼저 복구하고 high-water mark 이후 로그만 사용자별로 version 이 가장 큰 잔액으로 반영합니다.
+	 * 내역은 historyRecovery 에 따라 로그 처음부터(FULL) 또는 high-water mark 이후부터(TAIL) 순서대로 다시 저장합니다.
+	 * 정상적으로 읽은 마지막 레코드까지의 길이를 반환합니다.
+	 */
+	private long replay(HistoryRecovery historyRecovery, UserPointTable userPointTable,
+		PointHistoryTable pointHistoryTable) throws IOException {
+		long startedAt = System.nanoTime();
+		PointSnapshotFile.Snapshot snapshot = readSnapshot();
+		BalanceImage balances = snapshot == null ? new BalanceImage() : snapshot.balances();
+		long highWaterMark = snapshot == null ? PointLogRecord.HEADER_SIZE : snapshot.logOffset();
+		long from = historyRecovery == HistoryRecovery.TAIL ? highWaterMark : PointLogRecord.HEADER_SIZE;
+		long[] offset = {from};
+		long validLength = scan(from, channel.size(), record -> {
+			pointHistoryTable.restore(record.toEntry());
+			if (offset[0] >= highWaterMark) {
+				balances.put(record.userId(), record.amount(), record.updateMillis(), record.version());
+			}
+			offset[0] += PointLogRecord.SIZE;
+		});
+		balances.forEach(userPointTable::restore);
+
+		long droppedBytes = channel.size() - validLength;
+		if (droppedBytes > 0) {
+			log.warn("포인트 로그 끝의 손상된 {} byte 를 버립니다.", droppedBytes);
+		}
+		log.info("포인트 로그에서 {}건의 거래, {}명의 잔액을 {}ms 만에 복구했습니다. (스냅샷 사용: {})",
+			(validLength - from) / PointLogRecord.SIZE, balances.size(), (System.nanoTime() - startedAt) / 1_000_000,
+			snapshot != null);
+		return validLength;
+	}
+
+	/**
+	 * 로그에 반영되지 않은 내용을 담은 스냅샷(로그 파일이 교체된 경우 등)은 사용하지 않습니다.
+	 */
+	private PointSnapshotFile.Snapshot readSnapshot() throws IOException {
+		PointSnapshotFile.Snapshot snapshot = PointSnapshotFile.read(snapshotPath);
+		if (snapshot == null) {
+			return null;
+		}
+		if (snapshot.logOffset() > channel.size()) {
+			log.warn("스냅샷이 로그보다 앞서 있어 사용하지 않습니다. snapshot={}, log={}", snapshot.logOffset(),
+				channel.size());
+			return null;
+		}
+		return snapshot;
+	}
+
+	/**
+	 * 로그의 [from, to) 구간을 순서대로 읽습니다. 기록 중인 로그와 함께 읽을 수 있도록 위치를 지정해 읽습니다.
+	 * 손상된 레코드를 만나면 멈추고, 정상적으로 읽은 마지막 레코드까지의 위치를 반환합니다.
+	 */
+	private long scan(long from, long to, Consumer<PointLogRecord> visitor) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+		long position = from;
+		long validLength = from;
+		while (position < to) {
+			buffer.limit((int)Math.min(buffer.capacity(), buffer.position() + (to - position)));
+			int read = channel.read(buffer, position);
+			if (read == -1) {
+				break;
+			}
+			position += read;
+			buffer.flip();
+			while (buffer.remaining() >= PointLogRecord.SIZE) {
+				PointLogRecord record = PointLogRecord.read(buffer);
+				if (record == null) {
+					return validLength;
+				}
+				visitor.accept(record);
+				validLength += PointLogRecord.SIZE;
+			}
+			buffer.compact();
+		}
+		return validLength;
+	}
+}
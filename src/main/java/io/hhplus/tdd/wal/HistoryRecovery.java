@@ -0,0 +1,10 @@
+package io.hhplus.tdd.wal;
+
+/**
+ * 재시작할 때 PointHistoryTable 로 복구할 내역의 범위
+ * - FULL : 로그의 모든 내역을 복구 (복구 시간이 전체 내역 수에 비례)
+ * - TAIL : 스냅샷 이후의 내역만 복구. 이전 내역은 로그 파일에만 남고 조회 API 에서는 보이지 않는다.
+ */
+public enum HistoryRecovery {
+	FULL, TAIL
+}
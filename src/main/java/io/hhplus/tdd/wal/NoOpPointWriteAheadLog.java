@@ -0,0 +1,23 @@
+package io.hhplus.tdd.wal;
+
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import io.hhplus.tdd.database.PointHistoryEntry;
+
+@Component
+@ConditionalOnProperty(name = "point.wal.enabled", havingValue = "false", matchIfMissing = true)
+public class NoOpPointWriteAheadLog implements PointWriteAheadLog {
+
+	@Override
+	public void append(PointHistoryEntry entry) {
+		// 기록하지 않는다. 재시작하면 모든 잔액과 내역이 사라진다.
+	}
+
+	@Override
+	public void appendAll(List<PointHistoryEntry> entries) {
+		// 기록하지 않는다.
+	}
+}
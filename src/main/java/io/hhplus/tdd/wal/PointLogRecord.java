@@ -0,0 +1,79 @@
+package io.hhplus.tdd.wal;
+
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32C;
+
+import io.hhplus.tdd.database.PointHistoryEntry;
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * 로그에 기록되는 거래 한 건입니다. 고정 길이(45 byte) 바이너리로 기록됩니다.<p>
+ * [userId 8][version 8][amount 8][transactionAmount 8][type 1][updateMillis 8][crc32c 4]<p>
+ * 기록 도중 종료되어 잘린 레코드는 checksum 이 맞지 않기 때문에 복구할 때 걸러집니다.<p>
+ * 로그 파일은 [magic 4][format 4] 헤더로 시작하며, 레코드 형식이 다른 로그를 잘린 레코드로 오인해 버리지 않도록
+ * 헤더가 맞지 않는 로그는 읽지 않습니다.
+ */
+record PointLogRecord(long userId, long version, long amount, long transactionAmount, TransactionType type,
+	long updateMillis) {
+
+	static final int HEADER_SIZE = Integer.BYTES + Integer.BYTES;
+	private static final int MAGIC = 0x5057414C;
+	private static final int FORMAT = 3;
+	private static final int PAYLOAD_SIZE = Long.BYTES + Long.BYTES + Long.BYTES + Long.BYTES + Byte.BYTES
+		+ Long.BYTES;
+	static final int SIZE = PAYLOAD_SIZE + Integer.BYTES;
+	private static final TransactionType[] TYPES = TransactionType.values();
+
+	static void writeHeader(ByteBuffer buffer) {
+		buffer.putInt(MAGIC).putInt(FORMAT);
+	}
+
+	/**
+	 * buffer 의 현재 위치에서 헤더를 읽고, 이 형식으로 기록된 로그인지 반환합니다.
+	 */
+	static boolean readHeader(ByteBuffer buffer) {
+		return buffer.getInt() == MAGIC && buffer.getInt() == FORMAT;
+	}
+
+	/**
+	 * 레코드 객체를 만들지 않고 buffer 의 현재 위치에 기록합니다.
+	 */
+	static void write(ByteBuffer buffer, PointHistoryEntry entry) {
+		int start = buffer.position();
+		buffer.putLong(entry.userId())
+			.putLong(entry.version())
+			.putLong(entry.amount())
+			.putLong(entry.transactionAmount())
+			.put((byte)entry.type().ordinal())
+			.putLong(entry.updateMillis())
+			.putInt(checksum(buffer, start));
+	}
+
+	/**
+	 * buffer 의 현재 위치에서 레코드를 읽습니다. checksum 이 맞지 않으면 null 을 반환합니다.
+	 */
+	static PointLogRecord read(ByteBuffer buffer) {
+		int start = buffer.position();
+		long userId = buffer.getLong();
+		long version = buffer.getLong();
+		long amount = buffer.getLong();
+		long transactionAmount = buffer.getLong();
+		int type = buffer.get();
+		long updateMillis = buffer.getLong();
+		int checksum = buffer.getInt();
+		if (checksum != checksum(buffer, start) || type < 0 || type >= TYPES.length) {
+			return null;
+		}
+		return new PointLogRecord(userId, version, amount, transactionAmount, TYPES[type], updateMillis);
+	}
+
+	PointHistoryEntry toEntry() {
+		return new PointHistoryEntry(userId, amount, transactionAmount, type, updateMillis, version);
+	}
+
+	private static int checksum(ByteBuffer buffer, int start) {
+		CRC32C crc = new CRC32C();
+		crc.update(buffer.slice(start, PAYLOAD_SIZE));
+		return (int)crc.getValue();
+	}
+}
@@ -0,0 +1,140 @@
+package io.hhplus.tdd.wal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * 잔액 스냅샷 파일을 읽고 씁니다.<p>
+ * [magic 4][format 4][logOffset 8][userCount 4] + userCount * [id 8][point 8][updateMillis 8][version 8] + [crc32c 4]<p>
+ * logOffset 은 스냅샷에 반영된 로그의 길이(high-water mark)로, 복구할 때 잔액은 이 위치 이후의 로그만 반영합니다.
+ * 임시 파일에 기록하고 fsync 한 뒤 교체하기 때문에 기록 도중 종료되어도 이전 스냅샷이 남습니다.
+ */
+final class PointSnapshotFile {
+
+	private static final int MAGIC = 0x50534E50;
+	private static final int FORMAT = 2;
+	private static final int HEADER_SIZE = Integer.BYTES + Integer.BYTES + Long.BYTES + Integer.BYTES;
+	private static final int ENTRY_SIZE = Long.BYTES * 4;
+	private static final int BUFFER_SIZE = ENTRY_SIZE * 8192;
+
+	private PointSnapshotFile() {
+	}
+
+	record Snapshot(BalanceImage balances, long logOffset) {
+	}
+
+	/**
+	 * 스냅샷이 없거나 손상되었거나 형식이 다르다면 null 을 반환합니다.
+	 */
+	static Snapshot read(Path path) throws IOException {
+		if (!Files.exists(path)) {
+			return null;
+		}
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			CRC32C crc = new CRC32C();
+			ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+			if (!readFully(channel, header) || header.getInt() != MAGIC || header.getInt() != FORMAT) {
+				return null;
+			}
+			long logOffset = header.getLong();
+			int userCount = header.getInt();
+			crc.update(header.flip());
+			if (channel.size() != HEADER_SIZE + (long)userCount * ENTRY_SIZE + Integer.BYTES) {
+				return null;
+			}
+
+			BalanceImage balances = new BalanceImage(userCount);
+			ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+			long remaining = (long)userCount * ENTRY_SIZE;
+			while (remaining > 0) {
+				buffer.clear().limit((int)Math.min(BUFFER_SIZE, remaining));
+				if (!readFully(channel, buffer)) {
+					return null;
+				}
+				crc.update(buffer.duplicate());
+				while (buffer.hasRemaining()) {
+					balances.put(buffer.getLong(), buffer.getLong(), buffer.getLong(), buffer.getLong());
+				}
+				remaining -= buffer.limit();
+			}
+			ByteBuffer trailer = ByteBuffer.allocate(Integer.BYTES);
+			if (!readFully(channel, trailer) || trailer.getInt() != (int)crc.getValue()) {
+				return null;
+			}
+			return new Snapshot(balances, logOffset);
+		}
+	}
+
+	static void write(Path path, BalanceImage balances, long logOffset) throws IOException {
+		Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+		try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+			StandardOpenOption.TRUNCATE_EXISTING)) {
+			CRC32C crc = new CRC32C();
+			ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+				.putInt(MAGIC)
+				.putInt(FORMAT)
+				.putLong(logOffset)
+				.putInt(balances.size())
+				.flip();
+			crc.update(header.duplicate());
+			writeFully(channel, header);
+
+			ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+			IOException[] failure = new IOException[1];
+			balances.forEach((id, point, updateMillis, version) -> {
+				if (failure[0] != null) {
+					return;
+				}
+				buffer.putLong(id).putLong(point).putLong(updateMillis).putLong(version);
+				if (!buffer.hasRemaining()) {
+					failure[0] = flushEntries(channel, buffer, crc);
+				}
+			});
+			if (failure[0] != null) {
+				throw failure[0];
+			}
+			IOException error = flushEntries(channel, buffer, crc);
+			if (error != null) {
+				throw error;
+			}
+			writeFully(channel, ByteBuffer.allocate(Integer.BYTES).putInt((int)crc.getValue()).flip());
+			channel.force(true);
+		}
+		Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	private static IOException flushEntries(FileChannel channel, ByteBuffer buffer, CRC32C crc) {
+		buffer.flip();
+		crc.update(buffer.duplicate());
+		try {
+			writeFully(channel, buffer);
+			return null;
+		} catch (IOException e) {
+			return e;
+		} finally {
+			buffer.clear();
+		}
+	}
+
+	private static boolean readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer) == -1) {
+				return false;
+			}
+		}
+		buffer.flip();
+		return true;
+	}
+
+	private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+	}
+}
@@ -0,0 +1,24 @@
+package io.hhplus.tdd.wal;
+
+import java.util.List;
+
+import io.hhplus.tdd.database.PointHistoryEntry;
+
+/**
+ * 포인트 충전/사용 결과를 디스크에 기록해 재시작 후에도 잔액과 내역을 복구할 수 있게 합니다.<p>
+ * point.wal.enabled 설정으로 파일에 기록(true)할지, 기록하지 않을지(false) 선택합니다.
+ * 내역 저장 방식(sync/async)과 관계없이 PointHistoryWriter.write 를 호출한 스레드에서, 포인트를 변경하기 전에 기록됩니다.
+ */
+public interface PointWriteAheadLog {
+
+	/**
+	 * 거래 후 잔액(amount)과 거래 종류, 거래로 바뀌는 포인트의 version 을 기록합니다. 기록이 디스크에 반영(fsync)된 이후에 반환됩니다.
+	 */
+	void append(PointHistoryEntry entry);
+
+	/**
+	 * 여러 거래를 목록 순서대로 한 번에 기록합니다. 모든 기록이 같은 fsync 로 반영된 이후에 반환됩니다.
+	 */
+	void appendAll(List<PointHistoryEntry> entries);
+
+}
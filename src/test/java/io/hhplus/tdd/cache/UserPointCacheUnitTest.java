@@ -0,0 +1,84 @@
+package io.hhplus.tdd.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.point.UserPoint;
+
+class UserPointCacheUnitTest {
+
+	@Test
+	void 캐시에_없는_포인트는_테이블에서_읽어오고_이후에는_캐시에서_반환한다() {
+		UserPointCache cache = new UserPointCache(true, 100, EvictionPolicy.LRU);
+		AtomicInteger loadCount = new AtomicInteger();
+
+		for (int i = 0; i < 3; i++) {
+			cache.get(1L, id -> {
+				loadCount.incrementAndGet();
+				return new UserPoint(id, 1000L, System.currentTimeMillis());
+			});
+		}
+
+		assertThat(loadCount.get()).isEqualTo(1);
+		assertThat(cache.stats().missCount()).isEqualTo(1);
+		assertThat(cache.stats().hitCount()).isEqualTo(2);
+	}
+
+	@Test
+	void 포인트가_변경되면_조회시_변경된_포인트를_반환한다() {
+		UserPointCache cache = new UserPointCache(true, 100, EvictionPolicy.LRU);
+		cache.get(1L, id -> new UserPoint(id, 1000L, System.currentTimeMillis()));
+
+		cache.put(new UserPoint(1L, 3000L, System.currentTimeMillis()));
+
+		assertThat(cache.get(1L, id -> UserPoint.empty(id)).point()).isEqualTo(3000L);
+	}
+
+	@Test
+	void 테이블을_읽는_동안_포인트가_변경되면_읽어온_값은_캐시에_저장하지_않는다() {
+		UserPointCache cache = new UserPointCache(true, 100, EvictionPolicy.LRU);
+
+		UserPoint loaded = cache.get(1L, id -> {
+			// 오래된 값을 읽는 사이에 다른 스레드가 포인트를 변경하고 캐시에서 제거된 상황
+			cache.put(new UserPoint(id, 3000L, System.currentTimeMillis()));
+			cache.invalidate(id);
+			return new UserPoint(id, 1000L, System.currentTimeMillis());
+		});
+
+		assertThat(loaded.point()).isEqualTo(1000L);
+		assertThat(cache.get(1L, id -> new UserPoint(id, 3000L, System.currentTimeMillis())).point())
+			.isEqualTo(3000L);
+	}
+
+	@Test
+	void 최대_크기를_넘으면_오래된_항목을_제거한다() {
+		// segment 당 최대 1개를 보관하도록 설정
+		UserPointCache cache = new UserPointCache(true, 16, EvictionPolicy.FIFO);
+
+		for (long id = 1; id <= 1000; id++) {
+			cache.put(new UserPoint(id, 100L, System.currentTimeMillis()));
+		}
+
+		assertThat(cache.stats().size()).isLessThanOrEqualTo(16);
+		assertThat(cache.stats().evictionCount()).isGreaterThanOrEqualTo(1000 - 16);
+	}
+
+	@Test
+	void 캐시를_끄면_항상_테이블에서_읽어온다() {
+		UserPointCache cache = new UserPointCache(false, 100, EvictionPolicy.LRU);
+		AtomicInteger loadCount = new AtomicInteger();
+
+		cache.put(new UserPoint(1L, 100L, System.currentTimeMillis()));
+		for (int i = 0; i < 3; i++) {
+			cache.get(1L, id -> {
+				loadCount.incrementAndGet();
+				return UserPoint.empty(id);
+			});
+		}
+
+		assertThat(loadCount.get()).isEqualTo(3);
+	}
+}
@@ -0,0 +1,110 @@
+package io.hhplus.tdd.database;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+class PointHistoryChunksUnitTest {
+
+	@Test
+	void chunk_크기를_넘어서_저장해도_저장한_순서대로_조회된다() {
+		PointHistoryChunks chunks = new PointHistoryChunks();
+		int historyAmount = 1000;
+		for (int i = 1; i <= historyAmount; i++) {
+			chunks.append(new PointHistory(i, 1L, i * 10L, TransactionType.CHARGE, System.currentTimeMillis()), i);
+		}
+
+		List<PointHistory> histories = chunks.toList();
+
+		assertThat(chunks.size()).isEqualTo(historyAmount);
+		assertThat(histories).hasSize(historyAmount);
+		for (int i = 0; i < historyAmount; i++) {
+			assertThat(histories.get(i).id()).isEqualTo(i + 1);
+			assertThat(chunks.get(i)).isSameAs(histories.get(i));
+			assertThat(chunks.versionOf(i)).isEqualTo(i + 1);
+		}
+	}
+
+	@Test
+	void 조회한_목록은_이후에_저장된_내역의_영향을_받지_않는다() {
+		PointHistoryChunks chunks = new PointHistoryChunks();
+		chunks.append(new PointHistory(1, 1L, 100L, TransactionType.CHARGE, System.currentTimeMillis()), 1);
+
+		List<PointHistory> histories = chunks.toList();
+		chunks.append(new PointHistory(2, 1L, 200L, TransactionType.CHARGE, System.currentTimeMillis()), 2);
+
+		assertThat(histories).hasSize(1);
+		assertThatThrownBy(() -> histories.add(null)).isInstanceOf(UnsupportedOperationException.class);
+	}
+
+	@Test
+	void cursor_보다_큰_id_를_가진_첫번째_내역의_위치를_찾는다() {
+		PointHistoryChunks chunks = new PointHistoryChunks();
+		// 다른 사용자의 내역이 섞여 id 가 띄엄띄엄 저장된 경우
+		for (int i = 1; i <= 100; i++) {
+			chunks.append(new PointHistory(i * 3L, 1L, 100L, TransactionType.CHARGE, System.currentTimeMillis()), i);
+		}
+
+		assertThat(chunks.indexAfter(0L, chunks.size())).isZero();
+		assertThat(chunks.indexAfter(3L, chunks.size())).isEqualTo(1);
+		assertThat(chunks.indexAfter(4L, chunks.size())).isEqualTo(1);
+		assertThat(chunks.indexAfter(150L, chunks.size())).isEqualTo(50);
+		assertThat(chunks.indexAfter(300L, chunks.size())).isEqualTo(100);
+	}
+
+	@Test
+	void stream_은_호출_시점까지_저장된_내역만_순서대로_읽는다() {
+		PointHistoryChunks chunks = new PointHistoryChunks();
+		for (int i = 1; i <= 100; i++) {
+			chunks.append(new PointHistory(i, 1L, 100L, TransactionType.CHARGE, System.currentTimeMillis()), i);
+		}
+
+		var stream = chunks.stream();
+		chunks.append(new PointHistory(101, 1L, 100L, TransactionType.CHARGE, System.currentTimeMillis()), 101);
+
+		assertThat(stream.map(PointHistory::id).toList())
+			.hasSize(100)
+			.isSorted()
+			.startsWith(1L)
+			.endsWith(100L);
+	}
+
+	@Test
+	void 전체_내역은_사용자와_관계없이_id_순서대로_내보낸다() {
+		PointHistoryTable pointHistoryTable = PointTableFixture.pointHistoryTable(true);
+		long now = System.currentTimeMillis();
+		pointHistoryTable.insert(new PointHistoryEntry(1L, 100L, 100L, TransactionType.CHARGE, now, 1L));
+		pointHistoryTable.insert(new PointHistoryEntry(2L, 200L, 200L, TransactionType.CHARGE, now, 1L));
+		pointHistoryTable.insert(new PointHistoryEntry(1L, 300L, 200L, TransactionType.USE, now, 2L));
+
+		assertThat(pointHistoryTable.streamAll().map(PointHistory::userId).toList()).containsExactly(1L, 2L, 1L);
+		assertThat(pointHistoryTable.streamByUserId(1L).map(PointHistory::amount).toList())
+			.containsExactly(100L, 300L);
+		assertThat(pointHistoryTable.streamByUserId(3L)).isEmpty();
+	}
+
+	@Test
+	void 최근_내역은_마지막_limit_개를_오래된_순서로_반환한다() {
+		PointHistoryTable pointHistoryTable = PointTableFixture.pointHistoryTable(false);
+		for (long amount = 1; amount <= 50; amount++) {
+			pointHistoryTable.insert(
+				new PointHistoryEntry(1L, amount, 1L, TransactionType.CHARGE, System.currentTimeMillis(), amount));
+		}
+
+		assertThat(pointHistoryTable.selectRecentByUserId(1L, 3)).extracting(PointHistory::amount)
+			.containsExactly(48L, 49L, 50L);
+		assertThat(pointHistoryTable.selectRecentByUserId(1L, 100)).hasSize(50);
+		assertThat(pointHistoryTable.selectRecentByUserId(2L, 3)).isEmpty();
+	}
+
+	@Test
+	void 저장된_내역이_없으면_빈_목록을_반환한다() {
+		assertThat(new PointHistoryChunks().toList()).isEmpty();
+		assertThat(PointTableFixture.pointHistoryTable(true).selectAllByUserId(1L)).isEmpty();
+	}
+}
@@ -0,0 +1,195 @@
+package io.hhplus.tdd.database;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import io.hhplus.tdd.error.CustomErrorCode;
+import io.hhplus.tdd.error.CustomException;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointStats;
+import io.hhplus.tdd.point.PointStatsBucket;
+import io.hhplus.tdd.point.TransactionType;
+
+class PointHistoryTableUnitTest {
+
+	@ParameterizedTest
+	@EnumSource(PointHistoryStorage.class)
+	void 저장_방식과_관계없이_저장한_내역을_그대로_조회한다(PointHistoryStorage storage) {
+		PointHistoryTable table = PointTableFixture.pointHistoryTable(false, storage, 1);
+		int historyAmount = 40_000;
+		for (int i = 0; i < historyAmount; i++) {
+			TransactionType type = i % 3 == 0 ? TransactionType.USE : TransactionType.CHARGE;
+			table.insert(new PointHistoryEntry(i % 2 + 1L, i * 10L, 10L, type, 1000L + i, i / 2 + 1L));
+		}
+
+		List<PointHistory> all = table.streamAll().toList();
+		List<PointHistory> histories = table.selectAllByUserId(2L);
+
+		assertThat(all).hasSize(historyAmount);
+		for (int i = 0; i < historyAmount; i++) {
+			TransactionType type = i % 3 == 0 ? TransactionType.USE : TransactionType.CHARGE;
+			assertThat(all.get(i)).isEqualTo(new PointHistory(i + 1L, i % 2 + 1L, i * 10L, type, 1000L + i));
+		}
+		assertThat(histories).hasSize(historyAmount / 2);
+		assertThat(histories).allMatch(history -> history.userId() == 2L);
+		assertThat(histories).extracting(PointHistory::id).isSorted();
+		assertThat(table.streamByUserId(2L).toList()).isEqualTo(histories);
+	}
+
+	@Test
+	void 저장_경로와_관계없이_잔액이_음수이거나_거래_금액이_0_이하인_내역은_저장하지_않는다() {
+		PointHistoryTable table = PointTableFixture.pointHistoryTable(false);
+		PointHistoryEntry negativeBalance = new PointHistoryEntry(1L, -100L, 100L, TransactionType.USE, 0L, 1L);
+		PointHistoryEntry zeroAmount = new PointHistoryEntry(1L, 100L, 0L, TransactionType.CHARGE, 0L, 1L);
+		PointHistoryEntry valid = new PointHistoryEntry(1L, 0L, 100L, TransactionType.USE, 0L, 1L);
+
+		assertThatThrownBy(() -> table.insert(negativeBalance)).isInstanceOf(CustomException.class)
+			.hasMessageContaining(CustomErrorCode.INVALID_AMOUNT.getMessage());
+		assertThatThrownBy(() -> table.restore(zeroAmount)).isInstanceOf(CustomException.class)
+			.hasMessageContaining(CustomErrorCode.INVALID_AMOUNT.getMessage());
+		// 한 건이라도 검증에 실패하면 함께 요청한 내역도 저장하지 않는다.
+		assertThatThrownBy(() -> table.insertAll(List.of(valid, negativeBalance))).isInstanceOf(CustomException.class);
+
+		assertThat(table.countByUserId(1L)).isZero();
+		assertThat(table.selectStatsByUserId(1L)).isEqualTo(PointStats.empty(1L));
+	}
+
+	@ParameterizedTest
+	@EnumSource(PointHistoryStorage.class)
+	void 저장_방식과_관계없이_cursor_다음의_내역부터_페이지로_조회한다(PointHistoryStorage storage) {
+		PointHistoryTable table = PointTableFixture.pointHistoryTable(false, storage, 1);
+		// 다른 사용자의 내역이 섞여 사용자의 내역 id 가 1, 4, 7, ... 으로 저장된다.
+		for (int i = 0; i < 300; i++) {
+			table.insert(new PointHistoryEntry(i % 3 + 1L, 100L, 100L, TransactionType.CHARGE, i, i / 3 + 1L));
+		}
+
+		List<PointHistory> page = table.selectPageByUserId(1L, 4L, 0L, Long.MAX_VALUE, 3);
+		List<PointHistory> ranged = table.selectPageByUserId(1L, 0L, 30L, 60L, 100);
+
+		assertThat(page).extracting(PointHistory::id).containsExactly(7L, 10L, 13L);
+		assertThat(ranged).extracting(PointHistory::updateMillis).containsExactly(30L, 33L, 36L, 39L, 42L, 45L, 48L,
+			51L, 54L, 57L);
+		assertThat(table.selectRecentByUserId(1L, 2)).extracting(PointHistory::id).containsExactly(295L, 298L);
+		// version 이 50 이하인 내역 중 가장 최근 내역만 조회한다.
+		assertThat(table.selectRecentByUserId(1L, 2, 50L)).extracting(PointHistory::id).containsExactly(145L, 148L);
+		assertThat(table.selectPageByUserId(4L, 0L, 0L, Long.MAX_VALUE, 3)).isEmpty();
+	}
+
+	@ParameterizedTest
+	@CsvSource({"OBJECT, 3", "OBJECT, 16", "COLUMNAR, 3", "COLUMNAR, 16"})
+	void shard_로_나누어도_내역_id_는_저장한_순서대로_증가한다(PointHistoryStorage storage, int shardCount) {
+		PointHistoryTable table = PointTableFixture.pointHistoryTable(false, storage, shardCount);
+		int historyAmount = 3_000;
+		for (int i = 0; i < historyAmount; i++) {
+			table.insert(new PointHistoryEntry(i % 7 + 1L, i, 7L, TransactionType.CHARGE, i, i / 7 + 1L));
+		}
+
+		List<PointHistory> all = table.streamAll().toList();
+		assertThat(all).hasSize(historyAmount);
+		// 전체 내역은 shard 와 관계없이 저장한 순서대로 1 부터 빈틈없이 id 를 가진다.
+		for (int i = 0; i < historyAmount; i++) {
+			assertThat(all.get(i).id()).isEqualTo(i + 1L);
+			assertThat(all.get(i).amount()).isEqualTo(i);
+		}
+		// 마지막으로 내보낸 id 이후의 내역만 다시 내보내면 이어서 저장한 내역만 나온다.
+		long exportedUntil = all.get(all.size() - 1).id();
+		table.insert(new PointHistoryEntry(1L, historyAmount, 7L, TransactionType.CHARGE, historyAmount,
+			historyAmount / 7 + 1L));
+		assertThat(table.streamAll().filter(history -> history.id() > exportedUntil).toList())
+			.extracting(PointHistory::amount).containsExactly((long)historyAmount);
+		for (long userId = 1; userId <= 7; userId++) {
+			List<PointHistory> histories = table.selectAllByUserId(userId);
+			assertThat(histories).extracting(PointHistory::id).isSorted();
+			assertThat(histories).extracting(PointHistory::amount).isSorted();
+			// cursor 로 끝까지 이어서 조회하면 전체 내역과 같다.
+			List<PointHistory> paged = new ArrayList<>();
+			long cursor = 0L;
+			List<PointHistory> page;
+			while (!(page = table.selectPageByUserId(userId, cursor, 0L, Long.MAX_VALUE, 100)).isEmpty()) {
+				paged.addAll(page);
+				cursor = page.get(page.size() - 1).id();
+			}
+			assertThat(paged).isEqualTo(histories);
+		}
+	}
+
+	@ParameterizedTest
+	@EnumSource(PointHistoryStorage.class)
+	void 여러_스레드가_서로_다른_사용자의_내역을_동시에_저장해도_모두_저장된다(PointHistoryStorage storage)
+		throws InterruptedException {
+		PointHistoryTable table = PointTableFixture.pointHistoryTable(false, storage, 16);
+		int threadAmount = 8;
+		int historyAmount = 10_000;
+		ExecutorService executorService = Executors.newFixedThreadPool(threadAmount);
+		for (int thread = 0; thread < threadAmount; thread++) {
+			long userId = thread + 1L;
+			executorService.submit(() -> {
+				for (int i = 0; i < historyAmount; i++) {
+					table.insert(new PointHistoryEntry(userId, i, 1L, TransactionType.CHARGE, i, i + 1L));
+				}
+			});
+		}
+		executorService.shutdown();
+		assertThat(executorService.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+		assertThat(table.streamAll().count()).isEqualTo((long)threadAmount * historyAmount);
+		for (long userId = 1; userId <= threadAmount; userId++) {
+			assertThat(table.selectAllByUserId(userId)).hasSize(historyAmount)
+				.extracting(PointHistory::amount).isSorted();
+		}
+	}
+
+	@Test
+	void 내역을_저장할_때마다_거래_금액으로_충전_사용_합계와_시간_구간별_집계를_갱신한다() {
+		PointHistoryTable table = new PointHistoryTable(false, PointMetrics.standalone(), PointHistoryStorage.OBJECT,
+			4, PointStatsInterval.HOUR, 30);
+		long hour = 60L * 60 * 1000;
+		// 내역에는 거래 후 잔액과 거래 금액이 함께 저장된다. 1000 충전, 300 사용, 500 충전, 200 사용
+		table.insert(new PointHistoryEntry(1L, 1000L, 1000L, TransactionType.CHARGE, 10L, 1L));
+		table.insert(new PointHistoryEntry(1L, 700L, 300L, TransactionType.USE, hour - 1, 2L));
+		table.insert(new PointHistoryEntry(1L, 1200L, 500L, TransactionType.CHARGE, hour, 3L));
+		table.insert(new PointHistoryEntry(1L, 1000L, 200L, TransactionType.USE, hour + 10L, 4L));
+		// 잔액의 차이와 거래 금액이 다르더라도 거래 금액으로 집계한다.
+		table.insert(new PointHistoryEntry(2L, 500L, 100L, TransactionType.CHARGE, 10L, 1L));
+
+		PointStats stats = table.selectStatsByUserId(1L);
+
+		assertThat(stats).isEqualTo(new PointStats(1L, 2L, 1500L, 2L, 500L, List.of(
+			new PointStatsBucket(0L, 1L, 1000L, 1L, 300L),
+			new PointStatsBucket(hour, 1L, 500L, 1L, 200L))));
+		assertThat(table.selectStatsByUserId(2L).totalCharged()).isEqualTo(100L);
+		assertThat(table.selectStatsByUserId(3L)).isEqualTo(PointStats.empty(3L));
+	}
+
+	@Test
+	void 시간_구간은_최근_retention_개만_남기고_합계에는_모든_내역을_반영한다() {
+		PointHistoryTable table = new PointHistoryTable(false, PointMetrics.standalone(), PointHistoryStorage.COLUMNAR,
+			1, PointStatsInterval.DAY, 2);
+		long day = 24L * 60 * 60 * 1000;
+		for (int i = 1; i <= 5; i++) {
+			table.insert(new PointHistoryEntry(1L, i * 100L, 100L, TransactionType.CHARGE, i * day, i));
+		}
+		// 남아 있는 구간보다 오래된 내역은 합계에만 반영된다.
+		table.insert(new PointHistoryEntry(1L, 600L, 100L, TransactionType.CHARGE, 0L, 6L));
+
+		PointStats stats = table.selectStatsByUserId(1L);
+		PointStats withoutBuckets = new PointHistoryTable(false, PointMetrics.standalone(),
+			PointHistoryStorage.OBJECT, 1, PointStatsInterval.NONE, 1).selectStatsByUserId(1L);
+
+		assertThat(stats.chargeCount()).isEqualTo(6L);
+		assertThat(stats.totalCharged()).isEqualTo(600L);
+		assertThat(stats.buckets()).extracting(PointStatsBucket::startMillis).containsExactly(4 * day, 5 * day);
+		assertThat(withoutBuckets.buckets()).isEmpty();
+	}
+}
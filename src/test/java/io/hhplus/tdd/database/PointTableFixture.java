@@ -0,0 +1,36 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.metrics.PointMetrics;
+
+/**
+ * 스프링 컨텍스트 없이 테이블을 만드는 테스트에서 사용합니다. 설정 기본값(OBJECT 저장소, shard 1개, 일 단위 30일 집계)으로
+ * 만들고 지표는 메모리에만 기록합니다.
+ */
+public final class PointTableFixture {
+
+	private PointTableFixture() {
+	}
+
+	/**
+	 * throttled 가 false 이면 조회/저장시 지연을 주지 않습니다.
+	 */
+	public static UserPointTable userPointTable(boolean throttled) {
+		return userPointTable(throttled, PointMetrics.standalone());
+	}
+
+	public static UserPointTable userPointTable(boolean throttled, PointMetrics pointMetrics) {
+		return new UserPointTable(throttled, pointMetrics, UserPointStorage.OBJECT);
+	}
+
+	/**
+	 * throttled 가 false 이면 조회/저장시 지연을 주지 않습니다.
+	 */
+	public static PointHistoryTable pointHistoryTable(boolean throttled) {
+		return pointHistoryTable(throttled, PointHistoryStorage.OBJECT, 1);
+	}
+
+	public static PointHistoryTable pointHistoryTable(boolean throttled, PointHistoryStorage storage, int shardCount) {
+		return new PointHistoryTable(throttled, PointMetrics.standalone(), storage, shardCount, PointStatsInterval.DAY,
+			30);
+	}
+}
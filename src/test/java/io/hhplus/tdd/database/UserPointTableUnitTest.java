@@ -0,0 +1,96 @@
+package io.hhplus.tdd.database;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.UserPoint;
+
+class UserPointTableUnitTest {
+
+	private final UserPointTable userPointTable = PointTableFixture.userPointTable(true);
+
+	@Test
+	void 저장된_적_없는_사용자의_version_은_0_이다() {
+		VersionedUserPoint versionedUserPoint = userPointTable.selectVersionedById(1L);
+
+		assertThat(versionedUserPoint.version()).isZero();
+		assertThat(versionedUserPoint.userPoint().point()).isZero();
+	}
+
+	@Test
+	void 조회한_version_이_그대로라면_포인트를_변경하고_version_을_증가시킨다() {
+		long id = 1L;
+		userPointTable.insertOrUpdate(id, 1000L);
+		VersionedUserPoint current = userPointTable.selectVersionedById(id);
+
+		UserPoint result = userPointTable.compareAndUpdate(id, current.version(), 1500L);
+
+		assertThat(result.point()).isEqualTo(1500L);
+		assertThat(userPointTable.selectVersionedById(id).version()).isEqualTo(current.version() + 1);
+	}
+
+	@Test
+	void 조회한_이후에_다른_요청이_먼저_변경했다면_변경하지_않고_null_을_반환한다() {
+		long id = 1L;
+		userPointTable.insertOrUpdate(id, 1000L);
+		VersionedUserPoint current = userPointTable.selectVersionedById(id);
+		userPointTable.insertOrUpdate(id, 2000L);
+
+		UserPoint result = userPointTable.compareAndUpdate(id, current.version(), 1500L);
+
+		assertThat(result).isNull();
+		assertThat(userPointTable.selectById(id).point()).isEqualTo(2000L);
+	}
+
+	@ParameterizedTest
+	@EnumSource(UserPointStorage.class)
+	void 저장_방식과_관계없이_사용자별_포인트와_version_을_유지한다(UserPointStorage storage) {
+		UserPointTable table = new UserPointTable(false, PointMetrics.standalone(), storage);
+		int userCount = 10_000;
+		for (long id = 1; id <= userCount; id++) {
+			table.insertOrUpdate(id, id);
+			table.insertOrUpdate(id, id * 2);
+		}
+
+		assertThat(table.size()).isEqualTo(userCount);
+		for (long id = 1; id <= userCount; id++) {
+			VersionedUserPoint versionedUserPoint = table.selectVersionedById(id);
+			assertThat(versionedUserPoint.userPoint().point()).isEqualTo(id * 2);
+			assertThat(versionedUserPoint.version()).isEqualTo(2L);
+		}
+		assertThat(table.selectById((long)userCount + 1).point()).isZero();
+	}
+
+	@ParameterizedTest
+	@EnumSource(UserPointStorage.class)
+	void 저장_방식과_관계없이_version_이_다르면_변경하지_않는다(UserPointStorage storage) {
+		UserPointTable table = new UserPointTable(false, PointMetrics.standalone(), storage);
+		long id = 1L;
+
+		UserPoint first = table.compareAndUpdate(id, 0L, 1000L);
+		UserPoint conflict = table.compareAndUpdate(id, 0L, 2000L);
+
+		assertThat(first.point()).isEqualTo(1000L);
+		assertThat(conflict).isNull();
+		assertThat(table.selectById(id).point()).isEqualTo(1000L);
+		assertThat(table.selectVersionedById(id).version()).isEqualTo(1L);
+	}
+
+	@ParameterizedTest
+	@EnumSource(UserPointStorage.class)
+	void 복구한_포인트는_변경_시각과_version_을_그대로_유지한다(UserPointStorage storage) {
+		UserPointTable table = new UserPointTable(false, PointMetrics.standalone(), storage);
+
+		table.restore(1L, 500L, 1234L, 3L);
+
+		assertThat(table.selectById(1L)).isEqualTo(new UserPoint(1L, 500L, 1234L));
+		assertThat(table.selectVersionedById(1L).version()).isEqualTo(3L);
+		// 복구 이후의 변경은 복구한 version 에 이어서 증가한다.
+		table.insertOrUpdate(1L, 600L);
+		assertThat(table.selectVersionedById(1L).version()).isEqualTo(4L);
+	}
+}
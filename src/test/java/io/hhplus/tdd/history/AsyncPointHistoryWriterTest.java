@@ -0,0 +1,221 @@
+package io.hhplus.tdd.history;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.database.PointHistoryEntry;
+import io.hhplus.tdd.database.PointHistoryStorage;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.PointStatsInterval;
+import io.hhplus.tdd.database.PointTableFixture;
+import io.hhplus.tdd.error.CustomErrorCode;
+import io.hhplus.tdd.error.CustomException;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.wal.NoOpPointWriteAheadLog;
+
+class AsyncPointHistoryWriterTest {
+
+	private final PointHistoryTable pointHistoryTable = PointTableFixture.pointHistoryTable(true);
+	private final AsyncPointHistoryWriter writer = new AsyncPointHistoryWriter(pointHistoryTable,
+		new NoOpPointWriteAheadLog(), 4, 2);
+
+	@AfterEach
+	void tearDown() {
+		writer.shutdown();
+	}
+
+	@Test
+	void flush_이후에는_이전에_요청한_내역이_모두_조회된다() {
+		long id = 1L;
+		for (int i = 1; i <= 5; i++) {
+			writer.write(new PointHistoryEntry(id, i * 100L, 100L, TransactionType.CHARGE, System.currentTimeMillis(),
+				i));
+		}
+
+		writer.flush();
+
+		assertThat(pointHistoryTable.selectAllByUserId(id))
+			.extracting(history -> history.amount())
+			.containsExactly(100L, 200L, 300L, 400L, 500L);
+	}
+
+	@Test
+	void 사용자별_flush_이후에는_해당_사용자의_내역이_모두_조회된다() {
+		long id = 1L;
+		for (int i = 1; i <= 3; i++) {
+			writer.write(new PointHistoryEntry(id, i * 100L, 100L, TransactionType.CHARGE, System.currentTimeMillis(),
+				i));
+			writer.write(new PointHistoryEntry(id + 1, i * 100L, 100L, TransactionType.CHARGE,
+				System.currentTimeMillis(), i));
+		}
+
+		writer.flush(id);
+
+		assertThat(pointHistoryTable.selectAllByUserId(id))
+			.extracting(history -> history.amount())
+			.containsExactly(100L, 200L, 300L);
+	}
+
+	@Test
+	void 대기열이_가득_차도_내역은_유실되지_않는다() throws InterruptedException {
+		int threadAmount = 10;
+		CountDownLatch latch = new CountDownLatch(threadAmount);
+		ExecutorService executorService = Executors.newFixedThreadPool(threadAmount);
+
+		for (int i = 1; i <= threadAmount; i++) {
+			final long userId = i;
+			executorService.submit(() -> {
+				try {
+					writer.write(new PointHistoryEntry(userId, 1000L, 1000L, TransactionType.USE,
+						System.currentTimeMillis(), 1L));
+				} finally {
+					latch.countDown();
+				}
+			});
+		}
+		latch.await();
+		executorService.shutdown();
+		writer.flush();
+
+		for (int i = 1; i <= threadAmount; i++) {
+			assertThat(pointHistoryTable.selectAllByUserId(i)).hasSize(1);
+		}
+	}
+
+	@Test
+	void 종료시_대기열에_남은_내역을_모두_저장한다() {
+		long id = 1L;
+		writer.write(new PointHistoryEntry(id, 100L, 100L, TransactionType.CHARGE, System.currentTimeMillis(), 1L));
+		writer.write(new PointHistoryEntry(id, 200L, 100L, TransactionType.CHARGE, System.currentTimeMillis(), 2L));
+
+		writer.shutdown();
+
+		assertThat(writer.pendingCount()).isZero();
+		assertThat(pointHistoryTable.selectAllByUserId(id)).hasSize(2);
+	}
+
+	@Test
+	void 종료와_동시에_요청한_내역도_유실되지_않고_flush_가_끝난다() throws InterruptedException {
+		int threadAmount = 10;
+		CountDownLatch ready = new CountDownLatch(threadAmount);
+		CountDownLatch latch = new CountDownLatch(threadAmount);
+		ExecutorService executorService = Executors.newFixedThreadPool(threadAmount);
+
+		for (int i = 1; i <= threadAmount; i++) {
+			final long userId = i;
+			executorService.submit(() -> {
+				try {
+					ready.countDown();
+					writer.write(new PointHistoryEntry(userId, 1000L, 1000L, TransactionType.CHARGE,
+						System.currentTimeMillis(), 1L));
+				} finally {
+					latch.countDown();
+				}
+			});
+		}
+		ready.await();
+		writer.shutdown();
+		latch.await();
+		executorService.shutdown();
+		writer.flush();
+
+		assertThat(writer.pendingCount()).isZero();
+		for (int i = 1; i <= threadAmount; i++) {
+			assertThat(pointHistoryTable.selectAllByUserId(i)).hasSize(1);
+		}
+	}
+
+	@Test
+	void 잔액이_음수인_내역은_대기열에_넣기_전에_거부하고_저장하지_않는다() {
+		long id = 1L;
+
+		assertThatThrownBy(() -> writer.write(new PointHistoryEntry(id, -100L, 100L, TransactionType.CHARGE,
+			System.currentTimeMillis(), 1L)))
+			.isInstanceOf(CustomException.class)
+			.hasMessageContaining(CustomErrorCode.INVALID_AMOUNT.getMessage());
+		writer.write(new PointHistoryEntry(id, 0L, 100L, TransactionType.USE, System.currentTimeMillis(), 1L));
+		writer.flush();
+
+		assertThat(pointHistoryTable.selectAllByUserId(id)).hasSize(1);
+	}
+
+	@Test
+	void 여러_내역을_한_번에_기록하면_순서대로_저장되고_하나라도_잘못되면_모두_거부한다() {
+		long id = 1L;
+		long now = System.currentTimeMillis();
+
+		assertThatThrownBy(() -> writer.writeAll(List.of(
+			new PointHistoryEntry(id, 100L, 100L, TransactionType.CHARGE, now, 1L),
+			new PointHistoryEntry(id, -100L, 200L, TransactionType.USE, now, 2L))))
+			.isInstanceOf(CustomException.class)
+			.hasMessageContaining(CustomErrorCode.INVALID_AMOUNT.getMessage());
+		writer.writeAll(List.of(
+			new PointHistoryEntry(id, 100L, 100L, TransactionType.CHARGE, now, 1L),
+			new PointHistoryEntry(id, 300L, 200L, TransactionType.CHARGE, now, 2L),
+			new PointHistoryEntry(id, 0L, 300L, TransactionType.USE, now, 3L),
+			new PointHistoryEntry(id, 400L, 400L, TransactionType.CHARGE, now, 4L),
+			new PointHistoryEntry(id, 900L, 500L, TransactionType.CHARGE, now, 5L)));
+		writer.flush(id);
+
+		assertThat(pointHistoryTable.selectAllByUserId(id))
+			.extracting(history -> history.amount())
+			.containsExactly(100L, 300L, 0L, 400L, 900L);
+	}
+
+	@Test
+	void 저장에_실패한_내역은_버리지_않고_다시_저장하며_실패하는_동안_flush_는_예외를_던진다() throws InterruptedException {
+		long id = 1L;
+		AtomicBoolean failing = new AtomicBoolean(true);
+		PointHistoryTable failingTable = new PointHistoryTable(false, PointMetrics.standalone(),
+			PointHistoryStorage.OBJECT, 1, PointStatsInterval.DAY, 30) {
+			@Override
+			public List<PointHistory> insertAll(List<PointHistoryEntry> entries) {
+				if (failing.get()) {
+					throw new IllegalStateException("insertAll 실패");
+				}
+				return super.insertAll(entries);
+			}
+		};
+		AsyncPointHistoryWriter failingWriter = new AsyncPointHistoryWriter(failingTable, new NoOpPointWriteAheadLog(),
+			4, 2);
+		try {
+			failingWriter.write(new PointHistoryEntry(id, 100L, 100L, TransactionType.CHARGE,
+				System.currentTimeMillis(), 1L));
+			awaitUntil(failingWriter::isFailing);
+
+			assertThatThrownBy(() -> failingWriter.flush(id))
+				.isInstanceOfSatisfying(CustomException.class,
+					e -> assertThat(e.getCustomErrorCode()).isEqualTo(CustomErrorCode.HISTORY_WRITE_FAILED));
+			assertThat(failingTable.selectAllByUserId(id)).isEmpty();
+
+			failing.set(false);
+			awaitUntil(() -> !failingWriter.isFailing());
+			failingWriter.flush(id);
+
+			assertThat(failingTable.selectAllByUserId(id)).extracting(history -> history.amount())
+				.containsExactly(100L);
+		} finally {
+			failingWriter.shutdown();
+		}
+	}
+
+	private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (!condition.getAsBoolean()) {
+			assertThat(System.nanoTime()).isLessThan(deadline);
+			Thread.sleep(10L);
+		}
+	}
+}
@@ -0,0 +1,203 @@
+package io.hhplus.tdd.idempotency;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.error.CustomErrorCode;
+import io.hhplus.tdd.error.CustomException;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.validator.ValidatorImpl;
+
+class PointIdempotencyStoreUnitTest {
+
+	private final AtomicLong now = new AtomicLong();
+	private final PointIdempotencyStore store = new PointIdempotencyStore(new ValidatorImpl(), 1000, 60_000L,
+		now::get);
+
+	@Test
+	void 같은_키로_다시_요청하면_처리하지_않고_처음_결과를_반환한다() {
+		AtomicInteger chargeCount = new AtomicInteger();
+
+		UserPoint first = store.execute(1L, "key", TransactionType.CHARGE, 100L,
+			() -> new UserPoint(1L, 100L * chargeCount.incrementAndGet(), 0L));
+		UserPoint retried = store.execute(1L, "key", TransactionType.CHARGE, 100L,
+			() -> new UserPoint(1L, 100L * chargeCount.incrementAndGet(), 0L));
+
+		assertThat(chargeCount.get()).isEqualTo(1);
+		assertThat(retried).isSameAs(first);
+	}
+
+	@Test
+	void 처리_중인_요청과_같은_키의_요청은_처음_요청의_결과를_기다린다() throws Exception {
+		int threadAmount = 10;
+		AtomicInteger chargeCount = new AtomicInteger();
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executorService = Executors.newFixedThreadPool(threadAmount);
+
+		Future<UserPoint> first = executorService.submit(() -> store.execute(1L, "key", TransactionType.CHARGE, 100L,
+			() -> {
+				chargeCount.incrementAndGet();
+				started.countDown();
+				await(release);
+				return new UserPoint(1L, 100L, 0L);
+			}));
+		started.await();
+		List<Future<UserPoint>> duplicates = new ArrayList<>();
+		for (int i = 1; i < threadAmount; i++) {
+			duplicates.add(executorService.submit(() -> store.execute(1L, "key", TransactionType.CHARGE, 100L,
+				() -> new UserPoint(1L, 100L * (chargeCount.incrementAndGet()), 0L))));
+		}
+		release.countDown();
+
+		UserPoint result = first.get();
+		for (Future<UserPoint> duplicate : duplicates) {
+			assertThat(duplicate.get()).isSameAs(result);
+		}
+		executorService.shutdown();
+		assertThat(chargeCount.get()).isEqualTo(1);
+	}
+
+	@Test
+	void segment_가_가득_차도_처리_중인_요청은_제거하지_않아_중복_처리되지_않는다() throws Exception {
+		// segment 마다 1개만 기억하는 저장소
+		PointIdempotencyStore smallStore = new PointIdempotencyStore(new ValidatorImpl(), 16, 60_000L, now::get);
+		AtomicInteger chargeCount = new AtomicInteger();
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+		Future<UserPoint> pending = executorService.submit(() -> smallStore.execute(1L, "pending",
+			TransactionType.CHARGE, 100L, () -> {
+				chargeCount.incrementAndGet();
+				started.countDown();
+				await(release);
+				return new UserPoint(1L, 100L, 0L);
+			}));
+		started.await();
+		// 모든 segment 가 최대 크기를 넘도록 다른 키의 요청을 처리한다.
+		for (int i = 0; i < 200; i++) {
+			smallStore.execute(2L, "key-" + i, TransactionType.CHARGE, 100L, () -> new UserPoint(2L, 100L, 0L));
+		}
+		Future<UserPoint> duplicate = executorService.submit(() -> smallStore.execute(1L, "pending",
+			TransactionType.CHARGE, 100L, () -> {
+				chargeCount.incrementAndGet();
+				return new UserPoint(1L, 200L, 0L);
+			}));
+		release.countDown();
+
+		assertThat(duplicate.get(5, TimeUnit.SECONDS)).isSameAs(pending.get(5, TimeUnit.SECONDS));
+		assertThat(chargeCount.get()).isEqualTo(1);
+		executorService.shutdown();
+	}
+
+	@Test
+	void 처음_요청이_제한_시간_안에_끝나지_않으면_중복_요청은_SERVICE_BUSY_를_받는다() throws Exception {
+		PointIdempotencyStore timedStore = new PointIdempotencyStore(new ValidatorImpl(), 1000, 60_000L, 50L,
+			now::get);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executorService = Executors.newSingleThreadExecutor();
+		Future<UserPoint> first = executorService.submit(() -> timedStore.execute(1L, "key", TransactionType.CHARGE,
+			100L, () -> {
+				started.countDown();
+				await(release);
+				return new UserPoint(1L, 100L, 0L);
+			}));
+		started.await();
+
+		assertThatThrownBy(() -> timedStore.execute(1L, "key", TransactionType.CHARGE, 100L,
+			() -> new UserPoint(1L, 200L, 0L)))
+			.isInstanceOf(CustomException.class)
+			.hasMessageContaining(CustomErrorCode.SERVICE_BUSY.getMessage());
+		release.countDown();
+		assertThat(timedStore.execute(1L, "key", TransactionType.CHARGE, 100L, () -> new UserPoint(1L, 200L, 0L)))
+			.isSameAs(first.get(5, TimeUnit.SECONDS));
+		executorService.shutdown();
+	}
+
+	@Test
+	void 실패한_요청은_기억하지_않고_다시_처리한다() {
+		assertThatThrownBy(() -> store.execute(1L, "key", TransactionType.USE, 100L, () -> {
+			throw new CustomException(CustomErrorCode.OVER_USED_POINT, 0L);
+		})).isInstanceOf(CustomException.class);
+
+		UserPoint retried = store.execute(1L, "key", TransactionType.USE, 100L, () -> new UserPoint(1L, 0L, 0L));
+
+		assertThat(retried.point()).isZero();
+	}
+
+	@Test
+	void 같은_키로_금액이나_구분이_다른_요청을_하면_예외를_발생시킨다() {
+		store.execute(1L, "key", TransactionType.CHARGE, 100L, () -> new UserPoint(1L, 100L, 0L));
+
+		assertThatThrownBy(() -> store.execute(1L, "key", TransactionType.CHARGE, 200L,
+			() -> new UserPoint(1L, 300L, 0L)))
+			.isInstanceOf(CustomException.class)
+			.hasMessageContaining(CustomErrorCode.IDEMPOTENCY_KEY_REUSED.getMessage());
+		assertThatThrownBy(() -> store.execute(1L, "key", TransactionType.USE, 100L,
+			() -> new UserPoint(1L, 0L, 0L)))
+			.isInstanceOf(CustomException.class)
+			.hasMessageContaining(CustomErrorCode.IDEMPOTENCY_KEY_REUSED.getMessage());
+	}
+
+	@Test
+	void 키는_사용자별로_구분된다() {
+		UserPoint first = store.execute(1L, "key", TransactionType.CHARGE, 100L, () -> new UserPoint(1L, 100L, 0L));
+		UserPoint other = store.execute(2L, "key", TransactionType.CHARGE, 100L, () -> new UserPoint(2L, 100L, 0L));
+
+		assertThat(other).isNotSameAs(first);
+		assertThat(other.id()).isEqualTo(2L);
+	}
+
+	@Test
+	void ttl_이_지난_키로_요청하면_다시_처리한다() {
+		AtomicInteger chargeCount = new AtomicInteger();
+		store.execute(1L, "key", TransactionType.CHARGE, 100L, () -> {
+			chargeCount.incrementAndGet();
+			return new UserPoint(1L, 100L, 0L);
+		});
+
+		now.addAndGet(60_000L);
+		store.execute(1L, "key", TransactionType.CHARGE, 100L, () -> {
+			chargeCount.incrementAndGet();
+			return new UserPoint(1L, 200L, 0L);
+		});
+
+		assertThat(chargeCount.get()).isEqualTo(2);
+	}
+
+	@Test
+	void 키가_없으면_매번_처리한다() {
+		AtomicInteger chargeCount = new AtomicInteger();
+
+		for (int i = 0; i < 3; i++) {
+			store.execute(1L, null, TransactionType.CHARGE, 100L, () -> {
+				chargeCount.incrementAndGet();
+				return new UserPoint(1L, 100L, 0L);
+			});
+		}
+
+		assertThat(chargeCount.get()).isEqualTo(3);
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
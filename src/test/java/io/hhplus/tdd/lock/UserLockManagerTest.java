@@ -0,0 +1,88 @@
+package io.hhplus.tdd.lock;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class UserLockManagerTest {
+
+	/**
+	 * 락을 제거하거나 공유하는 방식에서도 같은 사용자에 대한 작업은 항상 하나씩만 수행되어야 한다.
+	 * 동기화되지 않은 카운터를 락 안에서만 증가시키고, 누락 없이 모두 반영되었는지 확인한다.
+	 */
+	@EnumSource(LockRegistryType.class)
+	@ParameterizedTest
+	void 같은_사용자에_대한_작업은_동시에_수행되지_않는다(LockRegistryType registryType) throws InterruptedException {
+		UserLockManager userLockManager = new UserLockManager(registryType, 4);
+		int threadAmount = 16;
+		int repeat = 2000;
+		int userCount = 8;
+		long[] counters = new long[userCount];
+
+		CountDownLatch latch = new CountDownLatch(threadAmount);
+		ExecutorService executorService = Executors.newFixedThreadPool(threadAmount);
+		for (int i = 0; i < threadAmount; i++) {
+			executorService.submit(() -> {
+				try {
+					for (int j = 0; j < repeat; j++) {
+						int userIndex = j % userCount;
+						UserLock userLock = userLockManager.lock(userIndex + 1);
+						try {
+							counters[userIndex]++;
+						} finally {
+							userLock.unlock();
+						}
+					}
+				} finally {
+					latch.countDown();
+				}
+			});
+		}
+		latch.await();
+		executorService.shutdown();
+
+		for (long counter : counters) {
+			assertThat(counter).isEqualTo((long)threadAmount * repeat / userCount);
+		}
+	}
+
+	@Test
+	void 참조_카운트_방식은_사용이_끝난_락을_보관하지_않는다() {
+		UserLockManager userLockManager = new UserLockManager(LockRegistryType.REF_COUNTED, 0);
+
+		for (long userId = 1; userId <= 10000; userId++) {
+			UserLock userLock = userLockManager.lock(userId);
+			userLock.unlock();
+		}
+
+		assertThat(userLockManager.registeredLockCount()).isZero();
+	}
+
+	@Test
+	void 참조_카운트_방식은_락을_사용중인_동안에는_보관한다() {
+		UserLockManager userLockManager = new UserLockManager(LockRegistryType.REF_COUNTED, 0);
+
+		UserLock userLock = userLockManager.lock(1L);
+		assertThat(userLockManager.registeredLockCount()).isEqualTo(1);
+		userLock.unlock();
+
+		assertThat(userLockManager.registeredLockCount()).isZero();
+	}
+
+	@Test
+	void 스트라이프_방식은_사용자_수와_관계없이_고정된_개수의_락을_사용한다() {
+		UserLockManager userLockManager = new UserLockManager(LockRegistryType.STRIPED, 1000);
+
+		for (long userId = 1; userId <= 10000; userId++) {
+			userLockManager.lock(userId).unlock();
+		}
+
+		assertThat(userLockManager.registeredLockCount()).isEqualTo(1024);
+	}
+}
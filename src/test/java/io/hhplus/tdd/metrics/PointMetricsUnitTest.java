@@ -0,0 +1,92 @@
+package io.hhplus.tdd.metrics;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.cache.EvictionPolicy;
+import io.hhplus.tdd.cache.UserPointCache;
+import io.hhplus.tdd.database.PointTableFixture;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.error.CustomErrorCode;
+import io.hhplus.tdd.error.CustomException;
+import io.hhplus.tdd.lock.LockRegistryType;
+import io.hhplus.tdd.lock.UserLock;
+import io.hhplus.tdd.lock.UserLockManager;
+import io.hhplus.tdd.point.UserPoint;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PointMetricsUnitTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final PointMetrics pointMetrics = new PointMetrics(meterRegistry);
+
+	@Test
+	void 기능의_처리_시간이_결과별로_기록된다() {
+		// act
+		long result = pointMetrics.recordOperation(PointOperation.CHARGE, () -> 100L);
+		// assert
+		assertThat(result).isEqualTo(100L);
+		assertThat(meterRegistry.get("point.operation")
+			.tag("operation", "charge")
+			.tag("outcome", "success")
+			.timer()
+			.count()).isEqualTo(1);
+	}
+
+	@Test
+	void CustomException_으로_거절되면_에러_코드별_거절_횟수가_기록되고_예외는_그대로_전달된다() {
+		// act
+		assertThatThrownBy(() -> pointMetrics.recordOperation(PointOperation.USE, () -> {
+			throw new CustomException(CustomErrorCode.OVER_USED_POINT, 0L);
+		})).isInstanceOf(CustomException.class);
+		// assert
+		assertThat(meterRegistry.get("point.operation")
+			.tag("operation", "use")
+			.tag("outcome", "rejected")
+			.timer()
+			.count()).isEqualTo(1);
+		assertThat(meterRegistry.get("point.rejection")
+			.tag("code", CustomErrorCode.OVER_USED_POINT.name())
+			.counter()
+			.count()).isEqualTo(1);
+	}
+
+	@Test
+	void 사용자_락의_대기_시간과_보유_시간이_기록된다() {
+		// arrange
+		UserLockManager userLockManager = new UserLockManager(LockRegistryType.REF_COUNTED, 0, pointMetrics);
+		// act
+		UserLock userLock = userLockManager.lock(1L);
+		userLock.unlock();
+		// assert
+		assertThat(meterRegistry.get("point.lock.wait").timer().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("point.lock.hold").timer().count()).isEqualTo(1);
+	}
+
+	@Test
+	void 테이블_메서드별_처리_시간이_기록된다() {
+		// arrange
+		UserPointTable userPointTable = PointTableFixture.userPointTable(false, pointMetrics);
+		// act
+		userPointTable.insertOrUpdate(1L, 100L);
+		userPointTable.selectById(1L);
+		userPointTable.selectById(1L);
+		// assert
+		assertThat(meterRegistry.get("point.table").tag("method", "insertOrUpdate").timer().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("point.table").tag("method", "selectById").timer().count()).isEqualTo(2);
+	}
+
+	@Test
+	void 캐시의_적중_미스_횟수와_크기가_지표로_등록된다() {
+		// arrange
+		UserPointCache cache = new UserPointCache(true, 100, EvictionPolicy.LRU, pointMetrics);
+		// act
+		cache.get(1L, UserPoint::empty);
+		cache.get(1L, UserPoint::empty);
+		// assert
+		assertThat(meterRegistry.get("point.cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("point.cache.gets").tag("result", "miss").functionCounter().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("point.cache.size").gauge().value()).isEqualTo(1);
+	}
+}
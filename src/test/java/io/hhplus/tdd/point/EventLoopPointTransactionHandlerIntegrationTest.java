@@ -0,0 +1,154 @@
+package io.hhplus.tdd.point;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import io.hhplus.tdd.cache.EvictionPolicy;
+import io.hhplus.tdd.cache.UserPointCache;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.PointTableFixture;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.error.CustomErrorCode;
+import io.hhplus.tdd.error.CustomException;
+import io.hhplus.tdd.history.SyncPointHistoryWriter;
+import io.hhplus.tdd.wal.NoOpPointWriteAheadLog;
+
+@SpringBootTest(properties = {"point.transaction.mode=event-loop", "point.table.throttle=false"})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class EventLoopPointTransactionHandlerIntegrationTest {
+
+	@Autowired
+	private PointService pointService;
+	@Autowired
+	private PointTransactionHandler pointTransactionHandler;
+	@Autowired
+	private UserPointTable userPointTable;
+	@Autowired
+	private PointHistoryTable pointHistoryTable;
+
+	@Test
+	void event_loop_모드에서는_shard_전용_스레드_처리기가_사용된다() {
+		assertThat(pointTransactionHandler).isInstanceOf(EventLoopPointTransactionHandler.class);
+	}
+
+	@Test
+	void 동시에_같은_사용자가_충전시_모든_요청이_도착한_순서대로_반영된다() throws InterruptedException {
+		long id = 1L;
+		long currentAmount = 1000L;
+		long updatedAmount = 100L;
+		int threadAmount = 10;
+		int requestAmount = 50;
+		userPointTable.insertOrUpdate(id, currentAmount);
+
+		CountDownLatch latch = new CountDownLatch(threadAmount);
+		ExecutorService executorService = Executors.newFixedThreadPool(threadAmount);
+		AtomicInteger successCount = new AtomicInteger();
+
+		for (int i = 0; i < threadAmount; i++) {
+			executorService.submit(() -> {
+				try {
+					for (int j = 0; j < requestAmount; j++) {
+						pointService.charge(id, updatedAmount);
+						successCount.incrementAndGet();
+					}
+				} finally {
+					latch.countDown();
+				}
+			});
+		}
+		latch.await();
+		executorService.shutdown();
+
+		long expectedAmount = currentAmount + updatedAmount * threadAmount * requestAmount;
+		List<PointHistory> histories = pointHistoryTable.selectAllByUserId(id);
+		assertThat(successCount.get()).isEqualTo(threadAmount * requestAmount);
+		assertThat(userPointTable.selectById(id).point()).isEqualTo(expectedAmount);
+		// 한 스레드가 순서대로 반영하므로 내역의 잔액은 저장된 순서대로 증가한다.
+		assertThat(histories).hasSize(threadAmount * requestAmount);
+		assertThat(histories).extracting(PointHistory::amount).isSorted().endsWith(expectedAmount);
+	}
+
+	@Test
+	void 동시에_들어온_사용요청이_잔액을_초과하면_초과한_요청만_예외를_받는다() throws InterruptedException {
+		long id = 1L;
+		long currentAmount = 5000L;
+		long usedAmount = 2500L;
+		int threadAmount = 10;
+		userPointTable.insertOrUpdate(id, currentAmount);
+
+		CountDownLatch latch = new CountDownLatch(threadAmount);
+		ExecutorService executorService = Executors.newFixedThreadPool(threadAmount);
+		AtomicInteger successCount = new AtomicInteger();
+		AtomicInteger overUsedCount = new AtomicInteger();
+
+		for (int i = 0; i < threadAmount; i++) {
+			executorService.submit(() -> {
+				try {
+					pointService.use(id, usedAmount);
+					successCount.incrementAndGet();
+				} catch (CustomException e) {
+					if (e.getCustomErrorCode() == CustomErrorCode.OVER_USED_POINT) {
+						overUsedCount.incrementAndGet();
+					}
+				} finally {
+					latch.countDown();
+				}
+			});
+		}
+		latch.await();
+		executorService.shutdown();
+
+		assertThat(successCount.get()).isEqualTo(2);
+		assertThat(overUsedCount.get()).isEqualTo(8);
+		assertThat(userPointTable.selectById(id).point()).isZero();
+		assertThat(pointHistoryTable.selectAllByUserId(id)).hasSize(2);
+	}
+
+	@Test
+	void 종료와_동시에_들어온_요청은_기다리지_않고_완료되며_성공한_요청만_반영된다() throws InterruptedException {
+		UserPointTable table = PointTableFixture.userPointTable(false);
+		PointHistoryTable historyTable = PointTableFixture.pointHistoryTable(false);
+		EventLoopPointTransactionHandler handler = new EventLoopPointTransactionHandler(
+			new SyncPointHistoryWriter(historyTable, new NoOpPointWriteAheadLog()), table,
+			new UserPointCache(false, 1, EvictionPolicy.LRU), 2, 8, 1000L);
+		long id = 1L;
+		int threadAmount = 8;
+		int requestAmount = 200;
+
+		CountDownLatch started = new CountDownLatch(threadAmount);
+		ExecutorService executorService = Executors.newFixedThreadPool(threadAmount);
+		AtomicInteger successCount = new AtomicInteger();
+
+		for (int i = 0; i < threadAmount; i++) {
+			executorService.submit(() -> {
+				started.countDown();
+				for (int j = 0; j < requestAmount; j++) {
+					try {
+						handler.charge(id, 1L);
+						successCount.incrementAndGet();
+					} catch (CustomException e) {
+						assertThat(e.getCustomErrorCode()).isEqualTo(CustomErrorCode.SERVICE_BUSY);
+					}
+				}
+			});
+		}
+		started.await();
+		handler.shutdown();
+		executorService.shutdown();
+
+		assertThat(executorService.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+		assertThat(table.selectById(id).point()).isEqualTo(successCount.get());
+		assertThat(historyTable.selectAllByUserId(id)).hasSize(successCount.get());
+	}
+}
@@ -0,0 +1,41 @@
+package io.hhplus.tdd.point;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+
+/**
+ * 서버가 동시에 처리하고 있는 요청 수의 최대값을 기록하는 테스트용 필터
+ */
+public class InFlightRequestCounter implements Filter {
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private final AtomicInteger peak = new AtomicInteger();
+
+	@Override
+	public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+		throws IOException, ServletException {
+		peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+		try {
+			chain.doFilter(request, response);
+		} finally {
+			inFlight.decrementAndGet();
+		}
+	}
+
+	public int peak() {
+		return peak.get();
+	}
+
+	/**
+	 * 이후에 처리하는 요청만으로 최대값을 다시 기록합니다.
+	 */
+	public void reset() {
+		peak.set(inFlight.get());
+	}
+}
@@ -0,0 +1,123 @@
+package io.hhplus.tdd.point;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.error.CustomErrorCode;
+import io.hhplus.tdd.error.CustomException;
+
+@SpringBootTest(properties = "point.transaction.mode=optimistic")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class OptimisticPointTransactionHandlerIntegrationTest {
+
+	@Autowired
+	private PointService pointService;
+	@Autowired
+	private PointTransactionHandler pointTransactionHandler;
+	@Autowired
+	private UserPointTable userPointTable;
+	@Autowired
+	private PointHistoryTable pointHistoryTable;
+
+	@Test
+	void optimistic_모드에서는_CAS_처리기가_사용된다() {
+		assertThat(pointTransactionHandler).isInstanceOf(OptimisticPointTransactionHandler.class);
+	}
+
+	@Test
+	void 동시에_같은_사용자가_충전시_모든_요청이_반영된다() throws InterruptedException {
+		long id = 1L;
+		long currentAmount = 1000L;
+		long updatedAmount = 4500L;
+		int threadAmount = 10;
+		userPointTable.insertOrUpdate(id, currentAmount);
+
+		CountDownLatch latch = new CountDownLatch(threadAmount);
+		ExecutorService executorService = Executors.newFixedThreadPool(threadAmount);
+		AtomicInteger successCount = new AtomicInteger();
+
+		for (int i = 0; i < threadAmount; i++) {
+			executorService.submit(() -> {
+				try {
+					pointService.charge(id, updatedAmount);
+					successCount.incrementAndGet();
+				} finally {
+					latch.countDown();
+				}
+			});
+		}
+		latch.await();
+		executorService.shutdown();
+
+		long expectedAmount = currentAmount + (updatedAmount * threadAmount);
+		List<PointHistory> histories = pointHistoryTable.selectAllByUserId(id);
+		assertThat(successCount.get()).isEqualTo(threadAmount);
+		assertThat(userPointTable.selectById(id).point()).isEqualTo(expectedAmount);
+		assertThat(histories).hasSize(threadAmount);
+		// 내역은 포인트 version 순서대로 기록되므로 잔액이 증가하는 순서로 저장되고 마지막 내역이 최종 잔액이다.
+		assertThat(histories).extracting(PointHistory::amount).isSorted().doesNotHaveDuplicates();
+		assertThat(histories.get(histories.size() - 1).amount()).isEqualTo(expectedAmount);
+	}
+
+	@Test
+	void 동시에_들어온_사용요청이_잔액을_초과하면_초과한_요청만_예외를_받는다() throws InterruptedException {
+		long id = 1L;
+		long currentAmount = 5000L;
+		long usedAmount = 2500L;
+		int threadAmount = 10;
+		userPointTable.insertOrUpdate(id, currentAmount);
+
+		CountDownLatch latch = new CountDownLatch(threadAmount);
+		ExecutorService executorService = Executors.newFixedThreadPool(threadAmount);
+		AtomicInteger successCount = new AtomicInteger();
+		AtomicInteger overUsedCount = new AtomicInteger();
+
+		for (int i = 0; i < threadAmount; i++) {
+			executorService.submit(() -> {
+				try {
+					pointService.use(id, usedAmount);
+					successCount.incrementAndGet();
+				} catch (CustomException e) {
+					if (e.getCustomErrorCode() == CustomErrorCode.OVER_USED_POINT) {
+						overUsedCount.incrementAndGet();
+					}
+				} finally {
+					latch.countDown();
+				}
+			});
+		}
+		latch.await();
+		executorService.shutdown();
+
+		assertThat(successCount.get()).isEqualTo(2);
+		assertThat(overUsedCount.get()).isEqualTo(8);
+		assertThat(userPointTable.selectById(id).point()).isZero();
+		assertThat(pointHistoryTable.selectAllByUserId(id)).hasSize(2);
+	}
+
+	@Test
+	void 충전_최대값을_초과하는_요청은_다른_요청에_영향을_주지_않는다() {
+		long id = 1L;
+		userPointTable.insertOrUpdate(id, 1000L);
+
+		assertThatThrownBy(() -> pointService.charge(id, 100000L))
+			.isInstanceOf(CustomException.class)
+			.hasMessageContaining(String.format(CustomErrorCode.EXCEEDED_CHARGE_POINT.getMessage(), 101000L));
+		UserPoint chargedUserPoint = pointService.charge(id, 500L);
+
+		assertThat(chargedUserPoint.point()).isEqualTo(1500L);
+		assertThat(pointHistoryTable.selectAllByUserId(id)).hasSize(1);
+	}
+}
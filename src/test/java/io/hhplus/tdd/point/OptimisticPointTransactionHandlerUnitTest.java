@@ -0,0 +1,59 @@
+package io.hhplus.tdd.point;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.cache.EvictionPolicy;
+import io.hhplus.tdd.cache.UserPointCache;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.PointTableFixture;
+import io.hhplus.tdd.database.UserPointStorage;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.error.CustomErrorCode;
+import io.hhplus.tdd.error.CustomException;
+import io.hhplus.tdd.history.SyncPointHistoryWriter;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.wal.NoOpPointWriteAheadLog;
+
+class OptimisticPointTransactionHandlerUnitTest {
+
+	private final AtomicInteger compareAndUpdateFailures = new AtomicInteger();
+	private final UserPointTable userPointTable = new UserPointTable(false, PointMetrics.standalone(),
+		UserPointStorage.OBJECT) {
+		@Override
+		public UserPoint compareAndUpdate(long id, long expectedVersion, long amount) {
+			if (compareAndUpdateFailures.getAndDecrement() > 0) {
+				throw new IllegalStateException("compareAndUpdate 실패");
+			}
+			return super.compareAndUpdate(id, expectedVersion, amount);
+		}
+	};
+	private final PointHistoryTable pointHistoryTable = PointTableFixture.pointHistoryTable(false);
+	private final OptimisticPointTransactionHandler handler = new OptimisticPointTransactionHandler(
+		new SyncPointHistoryWriter(pointHistoryTable, new NoOpPointWriteAheadLog()), userPointTable,
+		new UserPointCache(false, 100, EvictionPolicy.LRU), 5);
+
+	@Test
+	void 포인트_반영_중_예외가_발생해도_다음_요청은_기다리지_않고_처리된다() {
+		compareAndUpdateFailures.set(1);
+
+		assertThatThrownBy(() -> handler.charge(1L, 100L)).isInstanceOf(IllegalStateException.class);
+		UserPoint result = handler.charge(1L, 200L);
+
+		assertThat(result.point()).isEqualTo(200L);
+		assertThat(userPointTable.selectById(1L).point()).isEqualTo(200L);
+	}
+
+	@Test
+	void 정책을_위반한_요청은_재시도하지_않고_내역도_남기지_않는다() {
+		handler.charge(1L, 100L);
+
+		assertThatThrownBy(() -> handler.use(1L, 200L))
+			.isInstanceOfSatisfying(CustomException.class,
+				e -> assertThat(e.getCustomErrorCode()).isEqualTo(CustomErrorCode.OVER_USED_POINT));
+		assertThat(pointHistoryTable.selectAllByUserId(1L)).hasSize(1);
+	}
+}
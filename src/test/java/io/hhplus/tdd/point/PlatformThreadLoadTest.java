@@ -0,0 +1,25 @@
+package io.hhplus.tdd.point;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import io.hhplus.tdd.TddApplication;
+
+@SpringBootTest(
+	classes = {TddApplication.class, InFlightRequestCounter.class},
+	webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+	properties = {RequestCapacityLoadTestSupport.LOAD_TEST_PROPERTIES, RequestCapacityLoadTestSupport.CACHE_DISABLED,
+		"spring.threads.virtual.enabled=false"})
+class PlatformThreadLoadTest extends RequestCapacityLoadTestSupport {
+
+	@Test
+	void 플랫폼_스레드에서는_동시에_처리하는_요청이_요청_스레드_수를_넘지_않는다() throws IOException, InterruptedException {
+		int peak = sendConcurrentRequests();
+
+		assertThat(peak).isLessThanOrEqualTo(TOMCAT_MAX_THREADS);
+	}
+}
@@ -0,0 +1,129 @@
+package io.hhplus.tdd.point;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.hhplus.tdd.error.CustomErrorCode;
+import io.hhplus.tdd.error.CustomException;
+import io.hhplus.tdd.idempotency.PointIdempotencyStore;
+import io.hhplus.tdd.validator.ValidatorImpl;
+
+@ExtendWith(MockitoExtension.class)
+class PointAsyncServiceUnitTest {
+
+	@Mock
+	private PointService pointService;
+
+	private final PointIdempotencyStore pointIdempotencyStore = new PointIdempotencyStore(new ValidatorImpl(), 100,
+		60_000L, 1_000L);
+	private PointAsyncService pointAsyncService;
+
+	@AfterEach
+	void tearDown() {
+		pointAsyncService.shutdown();
+	}
+
+	@Test
+	void 포인트와_내역_조회가_동시에_진행된다() throws Exception {
+		// arrange
+		pointAsyncService = new PointAsyncService(pointService, pointIdempotencyStore, 2, 10);
+		long id = 1L;
+		UserPoint userPoint = new UserPoint(id, 100L, System.currentTimeMillis());
+		// 두 조회가 모두 시작되어야 끝나도록 하여, 하나씩 처리된다면 타임아웃이 발생하게 한다.
+		CountDownLatch started = new CountDownLatch(2);
+		given(pointService.searchUserPoint(id)).willAnswer(invocation -> {
+			started.countDown();
+			started.await();
+			return userPoint;
+		});
+		given(pointService.searchPointHistory(id)).willAnswer(invocation -> {
+			started.countDown();
+			started.await();
+			return List.of();
+		});
+		// act
+		CompletableFuture<UserPoint> point = pointAsyncService.searchUserPoint(id);
+		CompletableFuture<List<PointHistory>> histories = pointAsyncService.searchPointHistory(id);
+		// assert
+		assertThat(point.get(5, TimeUnit.SECONDS)).isEqualTo(userPoint);
+		assertThat(histories.get(5, TimeUnit.SECONDS)).isEmpty();
+	}
+
+	@Test
+	void 요약_조회는_포인트와_내역을_따로_조회해_맞추지_않고_서비스의_요약_조회를_전용_스레드에서_실행한다() throws Exception {
+		// arrange
+		pointAsyncService = new PointAsyncService(pointService, pointIdempotencyStore, 2, 10);
+		long id = 1L;
+		PointSummary expected = new PointSummary(new UserPoint(id, 300L, 1000L),
+			List.of(new PointHistory(1L, id, 100L, TransactionType.CHARGE, 900L),
+				new PointHistory(2L, id, 300L, TransactionType.CHARGE, 1000L)));
+		given(pointService.searchPointSummary(id, 20)).willReturn(expected);
+		// act
+		PointSummary summary = pointAsyncService.searchSummary(id, 20).get(5, TimeUnit.SECONDS);
+		// assert
+		assertThat(summary).isEqualTo(expected);
+		verify(pointService, never()).searchUserPoint(id);
+		verify(pointService, never()).searchRecentPointHistory(id, 20);
+	}
+
+	@Test
+	void 서비스에서_발생한_예외는_실패한_future_로_전달된다() {
+		// arrange
+		pointAsyncService = new PointAsyncService(pointService, pointIdempotencyStore, 1, 10);
+		given(pointService.charge(1L, 0L)).willThrow(new CustomException(CustomErrorCode.INVALID_AMOUNT));
+		// act
+		CompletableFuture<UserPoint> result = pointAsyncService.charge(1L, 0L, null);
+		// assert
+		assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class)
+			.hasCauseInstanceOf(CustomException.class)
+			.hasMessageContaining(CustomErrorCode.INVALID_AMOUNT.getMessage());
+	}
+
+	@Test
+	void 같은_Idempotency_Key_로_재시도한_충전은_다시_처리하지_않고_처음_결과를_반환한다() throws Exception {
+		// arrange
+		pointAsyncService = new PointAsyncService(pointService, pointIdempotencyStore, 2, 10);
+		UserPoint charged = new UserPoint(1L, 1000L, System.currentTimeMillis());
+		given(pointService.charge(1L, 1000L)).willReturn(charged);
+		// act
+		UserPoint first = pointAsyncService.charge(1L, 1000L, "charge-1").get(5, TimeUnit.SECONDS);
+		UserPoint retried = pointAsyncService.charge(1L, 1000L, "charge-1").get(5, TimeUnit.SECONDS);
+		// assert
+		assertThat(first).isEqualTo(charged);
+		assertThat(retried).isEqualTo(charged);
+		verify(pointService, times(1)).charge(1L, 1000L);
+	}
+
+	@Test
+	void 대기열이_가득_차면_SERVICE_BUSY_로_거절된다() throws Exception {
+		// arrange
+		pointAsyncService = new PointAsyncService(pointService, pointIdempotencyStore, 1, 1);
+		CountDownLatch release = new CountDownLatch(1);
+		given(pointService.searchUserPoint(1L)).willAnswer(invocation -> {
+			release.await();
+			return UserPoint.empty(1L);
+		});
+		// act : 하나는 실행 중, 하나는 대기열에서 기다리는 상태로 만든다.
+		CompletableFuture<UserPoint> running = pointAsyncService.searchUserPoint(1L);
+		CompletableFuture<UserPoint> queued = pointAsyncService.searchUserPoint(1L);
+		CompletableFuture<UserPoint> rejected = pointAsyncService.searchUserPoint(1L);
+		// assert
+		assertThatThrownBy(rejected::join).hasCauseInstanceOf(CustomException.class)
+			.hasMessageContaining(CustomErrorCode.SERVICE_BUSY.getMessage());
+		release.countDown();
+		assertThat(running.get(5, TimeUnit.SECONDS).point()).isZero();
+		assertThat(queued.get(5, TimeUnit.SECONDS).point()).isZero();
+	}
+}
@@ -0,0 +1,85 @@
+package io.hhplus.tdd.point;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.error.CustomErrorCode;
+import io.hhplus.tdd.error.CustomException;
+
+@SpringBootTest(properties = "point.table.throttle=false")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class PointBulkServiceIntegrationTest {
+
+	@Autowired
+	private PointBulkService pointBulkService;
+	@Autowired
+	private UserPointTable userPointTable;
+
+	@Test
+	void 같은_사용자의_요청은_입력_순서대로_처리되고_실패한_요청은_건별로_반환된다() {
+		// arrange
+		List<BulkPointOperation> operations = List.of(
+			new BulkPointOperation(1L, 1000L, TransactionType.CHARGE),
+			new BulkPointOperation(2L, 0L, TransactionType.CHARGE),
+			new BulkPointOperation(1L, 500L, TransactionType.USE),
+			new BulkPointOperation(1L, 10000L, TransactionType.USE),
+			new BulkPointOperation(2L, 300L, TransactionType.CHARGE),
+			new BulkPointOperation(1L, 100L, TransactionType.CHARGE)
+		);
+		// act
+		List<BulkPointResult> results = pointBulkService.process(operations);
+		// assert
+		assertThat(results).extracting(BulkPointResult::userId).containsExactly(1L, 2L, 1L, 1L, 2L, 1L);
+		assertThat(results).extracting(result -> result.userPoint() == null ? null : result.userPoint().point())
+			.containsExactly(1000L, null, 500L, null, 300L, 600L);
+		assertThat(results.get(1).error().code()).isEqualTo(CustomErrorCode.INVALID_AMOUNT.getCode());
+		assertThat(results.get(3).error().message())
+			.isEqualTo(String.format(CustomErrorCode.OVER_USED_POINT.getMessage(), 500L));
+		assertThat(userPointTable.selectById(1L).point()).isEqualTo(600L);
+		assertThat(userPointTable.selectById(2L).point()).isEqualTo(300L);
+	}
+
+	@Test
+	void 충전_사용_구분이_없는_요청은_해당_건만_실패한다() {
+		// act
+		List<BulkPointResult> results = pointBulkService.process(List.of(
+			new BulkPointOperation(1L, 1000L, null),
+			new BulkPointOperation(1L, 1000L, TransactionType.CHARGE)
+		));
+		// assert
+		assertThat(results.get(0).error().message()).isEqualTo(CustomErrorCode.INVALID_TRANSACTION_TYPE.getMessage());
+		assertThat(results.get(1).userPoint().point()).isEqualTo(1000L);
+	}
+
+	@Test
+	void 비어있거나_값이_빠진_항목은_묶기_전에_해당_건만_요청_형식_오류로_실패한다() {
+		// act
+		List<BulkPointResult> results = pointBulkService.process(Arrays.asList(
+			null,
+			new BulkPointOperation(1L, null, TransactionType.CHARGE),
+			new BulkPointOperation(null, 1000L, TransactionType.CHARGE),
+			new BulkPointOperation(1L, 1000L, TransactionType.CHARGE)
+		));
+		// assert
+		assertThat(results).hasSize(4);
+		assertThat(results.subList(0, 3)).extracting(result -> result.error().message())
+			.containsOnly(CustomErrorCode.INVALID_REQUEST_BODY.getMessage());
+		assertThat(results.get(0).userId()).isNull();
+		assertThat(results.get(3).userPoint().point()).isEqualTo(1000L);
+	}
+
+	@Test
+	void 요청이_비어있다면_예외를_발생시킨다() {
+		// act & assert
+		assertThatThrownBy(() -> pointBulkService.process(List.of())).isInstanceOf(CustomException.class)
+			.hasMessageContaining(String.format(CustomErrorCode.INVALID_BULK_SIZE.getMessage(), 10000));
+	}
+}
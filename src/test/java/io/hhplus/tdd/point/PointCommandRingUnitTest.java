@@ -0,0 +1,62 @@
+package io.hhplus.tdd.point;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class PointCommandRingUnitTest {
+
+	@Test
+	void 가득_차면_더_넣을_수_없고_넣은_순서대로_꺼낸다() {
+		PointCommandRing<Integer> ring = new PointCommandRing<>(4);
+		for (int i = 0; i < 4; i++) {
+			assertThat(ring.offer(i)).isTrue();
+		}
+
+		assertThat(ring.offer(4)).isFalse();
+		assertThat(ring.poll()).isZero();
+		assertThat(ring.offer(4)).isTrue();
+		assertThat(ring.poll()).isEqualTo(1);
+		assertThat(ring.poll()).isEqualTo(2);
+		assertThat(ring.poll()).isEqualTo(3);
+		assertThat(ring.poll()).isEqualTo(4);
+		assertThat(ring.poll()).isNull();
+	}
+
+	@Test
+	void 여러_스레드가_동시에_넣어도_모든_값을_한_번씩_꺼낸다() throws InterruptedException {
+		PointCommandRing<Integer> ring = new PointCommandRing<>(64);
+		int threadAmount = 8;
+		int offerAmount = 10_000;
+		ExecutorService executorService = Executors.newFixedThreadPool(threadAmount);
+		for (int thread = 0; thread < threadAmount; thread++) {
+			int first = thread * offerAmount;
+			executorService.submit(() -> {
+				for (int i = first; i < first + offerAmount; i++) {
+					while (!ring.offer(i)) {
+						Thread.onSpinWait();
+					}
+				}
+			});
+		}
+
+		Set<Integer> polled = new HashSet<>();
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+		while (polled.size() < threadAmount * offerAmount && System.nanoTime() < deadline) {
+			Integer value = ring.poll();
+			if (value != null) {
+				assertThat(polled.add(value)).isTrue();
+			}
+		}
+		executorService.shutdown();
+
+		assertThat(polled).hasSize(threadAmount * offerAmount);
+		assertThat(ring.poll()).isNull();
+	}
+}
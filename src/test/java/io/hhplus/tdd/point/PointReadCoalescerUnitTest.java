@@ -0,0 +1,122 @@
+package io.hhplus.tdd.point;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PointReadCoalescerUnitTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final PointReadCoalescer pointReadCoalescer = new PointReadCoalescer(new PointMetrics(meterRegistry));
+	private final ExecutorService executorService = Executors.newFixedThreadPool(10);
+
+	@AfterEach
+	void tearDown() {
+		executorService.shutdownNow();
+	}
+
+	@Test
+	void 같은_사용자를_동시에_조회하면_테이블_조회_한_번의_결과를_함께_받는다() throws Exception {
+		AtomicInteger loadCount = new AtomicInteger();
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		Future<UserPoint> leader = executorService.submit(() -> pointReadCoalescer.readUserPoint(1L, 0L, id -> {
+			loadCount.incrementAndGet();
+			loading.countDown();
+			await(release);
+			return new UserPoint(id, 100L, 0L);
+		}));
+		loading.await();
+
+		List<Future<UserPoint>> followers = new ArrayList<>();
+		for (int i = 0; i < 9; i++) {
+			followers.add(executorService.submit(() -> pointReadCoalescer.readUserPoint(1L, 0L, id -> {
+				loadCount.incrementAndGet();
+				return new UserPoint(id, 200L, 0L);
+			})));
+		}
+		// 뒤따른 조회가 모두 진행 중인 조회에 합류한 뒤에 테이블 조회를 끝낸다.
+		awaitCoalesced("user-point", 9);
+		release.countDown();
+
+		UserPoint result = leader.get(5, TimeUnit.SECONDS);
+		for (Future<UserPoint> follower : followers) {
+			assertThat(follower.get(5, TimeUnit.SECONDS)).isSameAs(result);
+		}
+		assertThat(loadCount.get()).isEqualTo(1);
+	}
+
+	@Test
+	void 진행_중인_조회가_마지막_쓰기_이전에_시작되었다면_합류하지_않고_새로_조회한다() throws Exception {
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		Future<UserPoint> stale = executorService.submit(() -> pointReadCoalescer.readUserPoint(1L, 0L, id -> {
+			loading.countDown();
+			await(release);
+			return new UserPoint(id, 100L, 0L);
+		}));
+		loading.await();
+
+		// 조회가 진행되는 동안 포인트가 변경되어 version 이 증가한 상황
+		UserPoint fresh = pointReadCoalescer.readUserPoint(1L, 1L, id -> new UserPoint(id, 200L, 0L));
+		release.countDown();
+
+		assertThat(fresh.point()).isEqualTo(200L);
+		assertThat(stale.get(5, TimeUnit.SECONDS).point()).isEqualTo(100L);
+	}
+
+	@Test
+	void 조회가_실패하면_합류한_조회도_같은_예외를_받고_다음_조회는_다시_실행된다() throws Exception {
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		Future<List<PointHistory>> leader = executorService.submit(() -> pointReadCoalescer.readHistories(1L, 0L,
+			id -> {
+				loading.countDown();
+				await(release);
+				throw new IllegalStateException("table unavailable");
+			}));
+		loading.await();
+		Future<List<PointHistory>> follower = executorService.submit(() -> pointReadCoalescer.readHistories(1L, 0L,
+			id -> List.of()));
+		awaitCoalesced("history", 1);
+		release.countDown();
+
+		assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+		assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+		assertThat(pointReadCoalescer.readHistories(1L, 0L, id -> List.of())).isEmpty();
+	}
+
+	/**
+	 * 진행 중인 조회에 합류한 횟수(point.read, source=coalesced)가 expected 가 될 때까지 기다립니다.
+	 * 합류한 조회는 횟수를 기록한 뒤 진행 중인 조회의 결과만 기다리므로, 이후에 테이블 조회를 끝내도 결과를 함께 받습니다.
+	 */
+	private void awaitCoalesced(String read, int expected) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (meterRegistry.get("point.read").tag("read", read).tag("source", "coalesced").counter().count()
+			< expected) {
+			assertThat(System.nanoTime()).as("합류 대기 시간 초과").isLessThan(deadline);
+			TimeUnit.MILLISECONDS.sleep(1);
+		}
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -6,6 +6,7 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -14,10 +15,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.annotation.DirtiesContext;
 
+import io.hhplus.tdd.database.PointHistoryEntry;
 import io.hhplus.tdd.database.PointHistoryTable;
 import io.hhplus.tdd.database.UserPointTable;
 import io.hhplus.tdd.error.CustomErrorCode;
 import io.hhplus.tdd.error.CustomException;
+import io.hhplus.tdd.history.PointHistoryWriter;
 
 @SpringBootTest
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
@@ -29,6 +32,8 @@ public class PointServiceIntegrationTest {
 	private UserPointTable userPointTable;
 	@Autowired
 	private PointHistoryTable pointHistoryTable;
+	@Autowired
+	private PointHistoryWriter pointHistoryWriter;
 
 	@ValueSource(longs = {0L, -100L})
 	@ParameterizedTest
@@ -51,18 +56,25 @@ public class PointServiceIntegrationTest {
 	}
 
 	@Test
-	void 포인트_충전_이용내역_조회시_유저의_포인트가_0보다_작은_기록이_있다면_예외가_발생한다() {
+	void 포인트_충전_이용내역_저장시_유저의_포인트가_0보다_작은_기록이라면_예외가_발생하고_저장되지_않는다() {
 
 		long id = 1L;
-		pointHistoryTable.insert(id, -100L, TransactionType.CHARGE,
-			System.currentTimeMillis());
-		pointHistoryTable.insert(id, -100L, TransactionType.CHARGE,
-			System.currentTimeMillis());
 
-		// act & assert 검증
-		assertThatThrownBy(() -> pointService.searchPointHistory(id))
+		// act & assert 검증 (내역은 저장할 때 검증하고 조회할 때는 다시 검증하지 않는다)
+		assertThatThrownBy(() -> pointHistoryWriter.write(new PointHistoryEntry(id, -100L, 100L, TransactionType.CHARGE,
+			System.currentTimeMillis(), 1L)))
 			.isInstanceOf(CustomException.class)
 			.hasMessageContaining(CustomErrorCode.INVALID_AMOUNT.getMessage());
+		assertThat(pointService.searchPointHistory(id)).isEmpty();
+	}
+
+	@Test
+	void 포인트를_모두_사용해_잔액이_0인_내역도_조회된다() {
+		long id = 1L;
+		pointService.charge(id, 500L);
+		pointService.use(id, 500L);
+
+		assertThat(pointService.searchPointHistory(id)).extracting(PointHistory::amount).containsExactly(500L, 0L);
 	}
 
 	@ValueSource(longs = {1000L, 500L, 3700L})
@@ -127,6 +139,54 @@ public class PointServiceIntegrationTest {
 		assertThat(pointHistoryTable.selectAllByUserId(id).get(0).type()).isEqualTo(TransactionType.USE);
 	}
 
+	@Test
+	void 충전과_사용을_하면_내역을_다시_읽지_않고_충전_사용_합계를_조회한다() {
+		long id = 1L;
+		pointService.charge(id, 1000L);
+		pointService.use(id, 300L);
+		pointService.charge(id, 500L);
+
+		PointStats stats = pointService.searchPointStats(id);
+
+		assertThat(stats.chargeCount()).isEqualTo(2L);
+		assertThat(stats.totalCharged()).isEqualTo(1500L);
+		assertThat(stats.useCount()).isEqualTo(1L);
+		assertThat(stats.totalUsed()).isEqualTo(300L);
+		assertThat(stats.buckets()).last().satisfies(bucket -> assertThat(bucket.totalCharged()).isEqualTo(1500L));
+		assertThat(pointService.searchPointStats(2L)).isEqualTo(PointStats.empty(2L));
+	}
+
+	@Test
+	void 충전이_진행되는_동안_요약을_조회해도_포인트를_만든_거래까지의_내역만_함께_반환한다() throws InterruptedException {
+		long id = 1L;
+		int threadAmount = 5;
+		long chargeAmount = 1000L;
+		CountDownLatch latch = new CountDownLatch(threadAmount);
+		ExecutorService executorService = Executors.newFixedThreadPool(threadAmount);
+		for (int i = 0; i < threadAmount; i++) {
+			executorService.submit(() -> {
+				try {
+					pointService.charge(id, chargeAmount);
+				} finally {
+					latch.countDown();
+				}
+			});
+		}
+
+		// 조회한 포인트가 n 번의 충전으로 만들어졌다면 내역도 정확히 n 번째 충전까지만 포함한다.
+		while (latch.getCount() > 0) {
+			PointSummary summary = pointService.searchPointSummary(id, 20);
+			long chargedCount = summary.userPoint().point() / chargeAmount;
+			assertThat(summary.recentHistories()).extracting(PointHistory::amount)
+				.containsExactlyElementsOf(LongStream.rangeClosed(1, chargedCount).map(n -> n * chargeAmount)
+					.boxed().toList());
+		}
+		executorService.shutdown();
+
+		assertThat(pointService.searchPointSummary(id, 3).recentHistories()).extracting(PointHistory::amount)
+			.containsExactly(3000L, 4000L, 5000L);
+	}
+
 	@Test
 	void 동시에_같은_사용자가_충전시_순차적으로_충전되어진다() throws InterruptedException {
 		long id = 1L;
@@ -10,10 +10,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import io.hhplus.tdd.cache.EvictionPolicy;
+import io.hhplus.tdd.cache.UserPointCache;
 import io.hhplus.tdd.database.PointHistoryTable;
 import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.history.PointHistoryWriter;
+import io.hhplus.tdd.metrics.PointMetrics;
 import io.hhplus.tdd.validator.ValidatorImpl;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,6 +33,19 @@ class PointServiceUnitTest {
 	@Mock
 	private ValidatorImpl validator;
 
+	@Mock
+	private PointHistoryWriter pointHistoryWriter;
+
+	// 캐시를 끈 상태로 두어 조회가 항상 테이블로 전달되도록 한다.
+	@Spy
+	private UserPointCache userPointCache = new UserPointCache(false, 1, EvictionPolicy.LRU);
+
+	@Spy
+	private PointMetrics pointMetrics = PointMetrics.standalone();
+
+	@Spy
+	private PointReadCoalescer pointReadCoalescer = new PointReadCoalescer(PointMetrics.standalone());
+
 	@InjectMocks
 	private PointService pointService;
 
@@ -72,4 +90,43 @@ class PointServiceUnitTest {
 		assertThat(resultList.get(1).amount()).isEqualTo(secondAmount);
 	}
 
+	@Test
+	void 포인트_내역_페이지_조회시_limit_보다_많이_조회되면_다음_cursor_를_반환한다() {
+		// arrange
+		long id = 1L;
+		int limit = 2;
+		long now = System.currentTimeMillis();
+		List<PointHistory> histories = List.of(
+			new PointHistory(1, id, 100L, TransactionType.CHARGE, now),
+			new PointHistory(2, id, 200L, TransactionType.CHARGE, now),
+			new PointHistory(3, id, 300L, TransactionType.CHARGE, now));
+		given(pointHistoryTable.selectPageByUserId(id, 0L, 0L, Long.MAX_VALUE, limit + 1)).willReturn(histories);
+
+		// act
+		PointHistoryPage page = pointService.searchPointHistoryPage(id, 0L, 0L, Long.MAX_VALUE, limit);
+
+		// assert 검증
+		assertThat(page.histories()).hasSize(limit);
+		assertThat(page.histories().get(1).id()).isEqualTo(2L);
+		assertThat(page.nextCursor()).isEqualTo(2L);
+	}
+
+	@Test
+	void 포인트_내역_페이지_조회시_마지막_페이지라면_다음_cursor_는_null_이다() {
+		// arrange
+		long id = 1L;
+		long cursor = 2L;
+		int limit = 2;
+		List<PointHistory> histories = List.of(
+			new PointHistory(3, id, 300L, TransactionType.CHARGE, System.currentTimeMillis()));
+		given(pointHistoryTable.selectPageByUserId(id, cursor, 0L, Long.MAX_VALUE, limit + 1)).willReturn(histories);
+
+		// act
+		PointHistoryPage page = pointService.searchPointHistoryPage(id, cursor, 0L, Long.MAX_VALUE, limit);
+
+		// assert 검증
+		assertThat(page.histories()).hasSize(1);
+		assertThat(page.nextCursor()).isNull();
+	}
+
 }
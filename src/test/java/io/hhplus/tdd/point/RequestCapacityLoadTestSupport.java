@@ -0,0 +1,136 @@
+package io.hhplus.tdd.point;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Tomcat 요청 스레드를 10개로 제한한 상태에서 테이블 지연이 있는 포인트 조회를 한 번에 요청하고,
+ * 서버가 동시에 처리한 요청 수의 최대값(in-flight peak)과 전체 소요 시간을 비교합니다.<p>
+ * 캐시를 꺼서 모든 요청이 UserPointTable 의 지연(최대 200ms)을 거치도록 합니다.<p>
+ * 조회 전에 사용자별로 정해진 금액의 충전을 동시에 요청하고, 조회 결과의 잔액과 내역 수가 요청한 충전에서 계산한 값과 정확히 같은지 확인합니다.
+ */
+abstract class RequestCapacityLoadTestSupport {
+
+	static final int TOMCAT_MAX_THREADS = 10;
+	static final int REQUEST_COUNT = 200;
+	static final int CHARGED_USER_COUNT = 20;
+	static final int CHARGES_PER_USER = 10;
+	static final String LOAD_TEST_PROPERTIES = "server.tomcat.threads.max=" + TOMCAT_MAX_THREADS;
+	static final String CACHE_DISABLED = "point.cache.enabled=false";
+
+	private static final Logger log = LoggerFactory.getLogger(RequestCapacityLoadTestSupport.class);
+
+	@LocalServerPort
+	private int port;
+	@Autowired
+	private InFlightRequestCounter inFlightRequestCounter;
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	int sendConcurrentRequests() throws IOException, InterruptedException {
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			HttpClient client = HttpClient.newBuilder()
+				.version(HttpClient.Version.HTTP_1_1)
+				.executor(executor)
+				.build();
+			chargeConcurrently(client);
+			inFlightRequestCounter.reset();
+
+			long startedAt = System.nanoTime();
+			List<CompletableFuture<HttpResponse<String>>> responses = LongStream.rangeClosed(1, REQUEST_COUNT)
+				.mapToObj(id -> client.sendAsync(get("/point/" + id), HttpResponse.BodyHandlers.ofString()))
+				.toList();
+			for (int i = 0; i < REQUEST_COUNT; i++) {
+				long id = i + 1;
+				HttpResponse<String> response = responses.get(i).join();
+				assertThat(response.statusCode()).isEqualTo(200);
+				assertThat(read(response.body(), UserPoint.class).point()).isEqualTo(expectedPoint(id));
+			}
+			long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+			for (long id = 1; id <= REQUEST_COUNT; id++) {
+				String body = client.send(get("/point/" + id + "/histories"), HttpResponse.BodyHandlers.ofString())
+					.body();
+				List<PointHistory> histories = read(body, new TypeReference<List<PointHistory>>() {
+				});
+				assertThat(histories).hasSize(id <= CHARGED_USER_COUNT ? CHARGES_PER_USER : 0);
+				if (!histories.isEmpty()) {
+					assertThat(histories).extracting(PointHistory::type).containsOnly(TransactionType.CHARGE);
+					assertThat(histories.get(histories.size() - 1).amount()).isEqualTo(expectedPoint(id));
+				}
+			}
+
+			int peak = inFlightRequestCounter.peak();
+			log.info("[{}] requests={}, in-flight peak={}, elapsed={}ms", getClass().getSimpleName(), REQUEST_COUNT,
+				peak, elapsedMillis);
+			return peak;
+		}
+	}
+
+	/**
+	 * 1 ~ CHARGED_USER_COUNT 사용자에게 chargeAmount(id) 만큼의 충전을 CHARGES_PER_USER 번씩 동시에 요청합니다.
+	 */
+	private void chargeConcurrently(HttpClient client) {
+		List<CompletableFuture<HttpResponse<String>>> charges = IntStream.range(0,
+				CHARGED_USER_COUNT * CHARGES_PER_USER)
+			.mapToObj(i -> {
+				long id = i % CHARGED_USER_COUNT + 1;
+				return client.sendAsync(HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/point/" + id
+							+ "/charge"))
+						.header("Content-Type", "application/json")
+						.method("PATCH", HttpRequest.BodyPublishers.ofString(String.valueOf(chargeAmount(id))))
+						.build(),
+					HttpResponse.BodyHandlers.ofString());
+			})
+			.toList();
+		charges.forEach(response -> assertThat(response.join().statusCode()).isEqualTo(200));
+	}
+
+	private static long chargeAmount(long id) {
+		return id * 100L;
+	}
+
+	private static long expectedPoint(long id) {
+		return id <= CHARGED_USER_COUNT ? chargeAmount(id) * CHARGES_PER_USER : 0L;
+	}
+
+	private HttpRequest get(String path) {
+		return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).build();
+	}
+
+	private <T> T read(String body, Class<T> type) {
+		try {
+			return objectMapper.readValue(body, type);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private <T> T read(String body, TypeReference<T> type) {
+		try {
+			return objectMapper.readValue(body, type);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -106,4 +106,34 @@ public class UserPointUnitTest {
 
 	}
 
+	@Test
+	void 충전_사용_정책을_위반하면_예외를_던지지_않고_거절_결과를_반환한다() {
+		UserPoint userPoint = new UserPoint(1L, 500L, System.currentTimeMillis());
+
+		PointResult overUsed = userPoint.tryUse(1000L);
+		PointResult exceeded = userPoint.tryCharge(100000L);
+		PointResult used = userPoint.tryUse(200L);
+
+		assertThat(overUsed.isRejected()).isTrue();
+		assertThat(overUsed.rejection()).isEqualTo(CustomErrorCode.OVER_USED_POINT);
+		assertThat(overUsed.toException())
+			.hasMessage(String.format(CustomErrorCode.OVER_USED_POINT.getMessage(), 500L));
+		assertThat(exceeded.toException())
+			.hasMessage(String.format(CustomErrorCode.EXCEEDED_CHARGE_POINT.getMessage(), 100500L));
+		assertThat(userPoint.tryUse(50L).toException()).hasMessage(CustomErrorCode.INVALID_USE_AMOUNT.getMessage());
+		assertThat(used.isRejected()).isFalse();
+		assertThat(used.userPoint().point()).isEqualTo(300L);
+	}
+
+	@Test
+	void 요청_값으로_인한_거절은_stack_trace_를_만들지_않고_서버_오류는_stack_trace_를_남긴다() {
+		CustomException rejection = new CustomException(CustomErrorCode.OVER_USED_POINT, 500L);
+		CustomException serverError = new CustomException(CustomErrorCode.INVALID_POINT);
+
+		assertThat(rejection.getStackTrace()).isEmpty();
+		assertThat(rejection.getMessage())
+			.isEqualTo(String.format(CustomErrorCode.OVER_USED_POINT.getMessage(), 500L));
+		assertThat(serverError.getStackTrace()).isNotEmpty();
+		assertThat(serverError.getMessage()).isEqualTo(CustomErrorCode.INVALID_POINT.getMessage());
+	}
 }
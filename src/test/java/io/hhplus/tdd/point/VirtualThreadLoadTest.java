@@ -0,0 +1,25 @@
+package io.hhplus.tdd.point;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import io.hhplus.tdd.TddApplication;
+
+@SpringBootTest(
+	classes = {TddApplication.class, InFlightRequestCounter.class},
+	webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+	properties = {RequestCapacityLoadTestSupport.LOAD_TEST_PROPERTIES, RequestCapacityLoadTestSupport.CACHE_DISABLED,
+		"spring.threads.virtual.enabled=true"})
+class VirtualThreadLoadTest extends RequestCapacityLoadTestSupport {
+
+	@Test
+	void 가상_스레드에서는_요청_스레드_수보다_많은_요청을_동시에_처리한다() throws IOException, InterruptedException {
+		int peak = sendConcurrentRequests();
+
+		assertThat(peak).isGreaterThan(TOMCAT_MAX_THREADS);
+	}
+}
@@ -37,4 +37,37 @@ public class ValidationUnitTest {
 		assertThatThrownBy(() -> validator.invalidAmount(amount)).isInstanceOf(CustomException.class)
 			.hasMessageContaining(CustomErrorCode.INVALID_AMOUNT.getMessage());
 	}
+
+	@ValueSource(ints = {0, -1, 1001})
+	@ParameterizedTest
+	void 조회_개수가_1_미만이거나_최대값을_초과하면_예외를_발생시킨다(int limit) {
+		// act & assert
+		assertThatThrownBy(() -> validator.invalidLimit(limit)).isInstanceOf(CustomException.class)
+			.hasMessageContaining(String.format(CustomErrorCode.INVALID_LIMIT.getMessage(), 1000));
+	}
+
+	@ValueSource(longs = {1000L, 2000L})
+	@ParameterizedTest
+	void 조회_시작_시각이_종료_시각보다_이전이_아니라면_예외를_발생시킨다(long fromMillis) {
+		long toMillis = 1000L;
+		// act & assert
+		assertThatThrownBy(() -> validator.invalidTimeRange(fromMillis, toMillis)).isInstanceOf(CustomException.class)
+			.hasMessageContaining(CustomErrorCode.INVALID_TIME_RANGE.getMessage());
+	}
+
+	@ValueSource(ints = {0, 10001})
+	@ParameterizedTest
+	void 일괄_처리_요청_수가_1_미만이거나_최대값을_초과하면_예외를_발생시킨다(int size) {
+		// act & assert
+		assertThatThrownBy(() -> validator.invalidBulkSize(size)).isInstanceOf(CustomException.class)
+			.hasMessageContaining(String.format(CustomErrorCode.INVALID_BULK_SIZE.getMessage(), 10000));
+	}
+
+	@ValueSource(strings = {"", " "})
+	@ParameterizedTest
+	void Idempotency_Key_가_공백이라면_예외를_발생시킨다(String key) {
+		// act & assert
+		assertThatThrownBy(() -> validator.invalidIdempotencyKey(key)).isInstanceOf(CustomException.class)
+			.hasMessageContaining(String.format(CustomErrorCode.INVALID_IDEMPOTENCY_KEY.getMessage(), 255));
+	}
 }
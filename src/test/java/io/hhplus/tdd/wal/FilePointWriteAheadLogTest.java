@@ -0,0 +1,285 @@
+package io.hhplus.tdd.wal;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.hhplus.tdd.database.PointHistoryEntry;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.PointTableFixture;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.database.VersionedUserPoint;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointStats;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+
+class FilePointWriteAheadLogTest {
+
+	@TempDir
+	private Path directory;
+
+	@Test
+	void 재시작하면_로그를_읽어_사용자별_마지막_잔액과_내역을_복구한다() throws IOException {
+		// arrange
+		String path = directory.resolve("point.wal").toString();
+		FilePointWriteAheadLog writeAheadLog = new FilePointWriteAheadLog(path, PointTableFixture.userPointTable(false),
+			PointTableFixture.pointHistoryTable(false));
+		writeAheadLog.append(entry(1L, 1000L, 1000L, TransactionType.CHARGE, 100L, 1L));
+		writeAheadLog.append(entry(2L, 500L, 500L, TransactionType.CHARGE, 200L, 1L));
+		writeAheadLog.append(entry(1L, 700L, 300L, TransactionType.USE, 300L, 2L));
+		writeAheadLog.close();
+		// act
+		UserPointTable userPointTable = PointTableFixture.userPointTable(false);
+		PointHistoryTable pointHistoryTable = PointTableFixture.pointHistoryTable(false);
+		new FilePointWriteAheadLog(path, userPointTable, pointHistoryTable).close();
+		// assert
+		assertThat(userPointTable.selectById(1L).point()).isEqualTo(700L);
+		assertThat(userPointTable.selectById(1L).updateMillis()).isEqualTo(300L);
+		assertThat(userPointTable.selectVersionedById(1L).version()).isEqualTo(2L);
+		assertThat(userPointTable.selectById(2L).point()).isEqualTo(500L);
+		assertThat(pointHistoryTable.selectAllByUserId(1L)).extracting(PointHistory::amount, PointHistory::type)
+			.containsExactly(tuple(1000L, TransactionType.CHARGE), tuple(700L, TransactionType.USE));
+		// 집계는 로그에 기록된 거래 금액으로 다시 쌓인다.
+		assertThat(pointHistoryTable.selectStatsByUserId(1L))
+			.extracting(PointStats::totalCharged, PointStats::totalUsed)
+			.containsExactly(1000L, 300L);
+	}
+
+	@Test
+	void 기록_도중_잘린_마지막_레코드는_버리고_그_위치부터_이어서_기록한다() throws IOException {
+		// arrange
+		Path file = directory.resolve("point.wal");
+		FilePointWriteAheadLog writeAheadLog = new FilePointWriteAheadLog(file.toString(),
+			PointTableFixture.userPointTable(false), PointTableFixture.pointHistoryTable(false));
+		writeAheadLog.append(entry(1L, 1000L, 1000L, TransactionType.CHARGE, 100L, 1L));
+		writeAheadLog.close();
+		Files.write(file, new byte[] {1, 2, 3}, StandardOpenOption.APPEND);
+		// act
+		writeAheadLog = new FilePointWriteAheadLog(file.toString(), PointTableFixture.userPointTable(false),
+			PointTableFixture.pointHistoryTable(false));
+		writeAheadLog.append(entry(1L, 1500L, 500L, TransactionType.CHARGE, 200L, 2L));
+		writeAheadLog.close();
+		UserPointTable userPointTable = PointTableFixture.userPointTable(false);
+		PointHistoryTable pointHistoryTable = PointTableFixture.pointHistoryTable(false);
+		new FilePointWriteAheadLog(file.toString(), userPointTable, pointHistoryTable).close();
+		// assert
+		assertThat(Files.size(file)).isEqualTo(PointLogRecord.HEADER_SIZE + 2L * PointLogRecord.SIZE);
+		assertThat(userPointTable.selectById(1L).point()).isEqualTo(1500L);
+		assertThat(pointHistoryTable.selectAllByUserId(1L)).hasSize(2);
+	}
+
+	@Test
+	void 동시에_기록된_거래가_모두_복구된다() throws Exception {
+		// arrange
+		String path = directory.resolve("point.wal").toString();
+		// group commit 지연을 켜 레코드가 쌓이기를 기다렸다가 기록하는 경로도 함께 검증한다.
+		FilePointWriteAheadLog writeAheadLog = new FilePointWriteAheadLog(path, path + ".snapshot", 0, 300,
+			HistoryRecovery.FULL, PointTableFixture.userPointTable(false), PointTableFixture.pointHistoryTable(false));
+		int threadCount = 8;
+		int appendCount = 500;
+		CountDownLatch latch = new CountDownLatch(threadCount);
+		ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+		for (int i = 0; i < threadCount; i++) {
+			long userId = i + 1;
+			executorService.submit(() -> {
+				try {
+					for (long amount = 1; amount <= appendCount; amount++) {
+						writeAheadLog.append(entry(userId, amount, 1L, TransactionType.CHARGE, amount, amount));
+					}
+				} finally {
+					latch.countDown();
+				}
+			});
+		}
+		latch.await();
+		executorService.shutdown();
+		writeAheadLog.close();
+		// act
+		UserPointTable userPointTable = PointTableFixture.userPointTable(false);
+		PointHistoryTable pointHistoryTable = PointTableFixture.pointHistoryTable(false);
+		new FilePointWriteAheadLog(path, userPointTable, pointHistoryTable).close();
+		// assert
+		for (long userId = 1; userId <= threadCount; userId++) {
+			assertThat(userPointTable.selectById(userId).point()).isEqualTo(appendCount);
+			assertThat(pointHistoryTable.selectAllByUserId(userId)).hasSize(appendCount);
+		}
+	}
+
+	@Test
+	void 동시_요청이_없으면_group_commit_지연을_기다리지_않고_기록한다() throws IOException {
+		// arrange
+		String path = directory.resolve("point.wal").toString();
+		FilePointWriteAheadLog writeAheadLog = new FilePointWriteAheadLog(path, path + ".snapshot", 0, 100_000,
+			HistoryRecovery.FULL, PointTableFixture.userPointTable(false), PointTableFixture.pointHistoryTable(false));
+		int appendCount = 50;
+		// act
+		long startedAt = System.nanoTime();
+		for (long version = 1; version <= appendCount; version++) {
+			writeAheadLog.append(entry(1L, version, 1L, TransactionType.CHARGE, version, version));
+		}
+		long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+		writeAheadLog.close();
+		// assert
+		// 매번 100ms 를 기다렸다면 5초가 걸린다.
+		assertThat(elapsedMillis).isLessThan(2_500L);
+	}
+
+	@Test
+	void 스냅샷이_있으면_잔액은_스냅샷과_이후_로그로_복구하고_내역은_설정에_따라_복구한다() throws IOException {
+		// arrange
+		String path = directory.resolve("point.wal").toString();
+		String snapshotPath = directory.resolve("point.snapshot").toString();
+		FilePointWriteAheadLog writeAheadLog = new FilePointWriteAheadLog(path, snapshotPath, 0, 0,
+			HistoryRecovery.FULL, PointTableFixture.userPointTable(false), PointTableFixture.pointHistoryTable(false));
+		writeAheadLog.append(entry(1L, 1000L, 1000L, TransactionType.CHARGE, 100L, 1L));
+		writeAheadLog.append(entry(2L, 500L, 500L, TransactionType.CHARGE, 200L, 1L));
+		long highWaterMark = writeAheadLog.snapshot();
+		writeAheadLog.append(entry(1L, 700L, 300L, TransactionType.USE, 300L, 2L));
+		writeAheadLog.close();
+		// act
+		UserPointTable fullUserPointTable = PointTableFixture.userPointTable(false);
+		PointHistoryTable fullPointHistoryTable = PointTableFixture.pointHistoryTable(false);
+		new FilePointWriteAheadLog(path, snapshotPath, 0, 0, HistoryRecovery.FULL, fullUserPointTable,
+			fullPointHistoryTable).close();
+		UserPointTable tailUserPointTable = PointTableFixture.userPointTable(false);
+		PointHistoryTable tailPointHistoryTable = PointTableFixture.pointHistoryTable(false);
+		new FilePointWriteAheadLog(path, snapshotPath, 0, 0, HistoryRecovery.TAIL, tailUserPointTable,
+			tailPointHistoryTable).close();
+		// assert
+		assertThat(highWaterMark).isEqualTo(PointLogRecord.HEADER_SIZE + 2L * PointLogRecord.SIZE);
+		for (UserPointTable userPointTable : List.of(fullUserPointTable, tailUserPointTable)) {
+			assertThat(userPointTable.selectById(1L).point()).isEqualTo(700L);
+			assertThat(userPointTable.selectById(2L).point()).isEqualTo(500L);
+			assertThat(userPointTable.selectById(2L).updateMillis()).isEqualTo(200L);
+		}
+		assertThat(fullPointHistoryTable.selectAllByUserId(1L)).hasSize(2);
+		assertThat(tailPointHistoryTable.selectAllByUserId(1L)).extracting(PointHistory::amount).containsExactly(700L);
+		assertThat(tailPointHistoryTable.selectAllByUserId(2L)).isEmpty();
+	}
+
+	@Test
+	void 스냅샷은_이전_스냅샷에_이후_로그를_더해_만든다() throws IOException {
+		// arrange
+		String path = directory.resolve("point.wal").toString();
+		String snapshotPath = directory.resolve("point.snapshot").toString();
+		FilePointWriteAheadLog writeAheadLog = new FilePointWriteAheadLog(path, snapshotPath, 0, 0,
+			HistoryRecovery.TAIL, PointTableFixture.userPointTable(false), PointTableFixture.pointHistoryTable(false));
+		writeAheadLog.append(entry(1L, 1000L, 1000L, TransactionType.CHARGE, 100L, 1L));
+		writeAheadLog.snapshot();
+		writeAheadLog.append(entry(2L, 500L, 500L, TransactionType.CHARGE, 200L, 1L));
+		writeAheadLog.append(entry(1L, 300L, 700L, TransactionType.USE, 300L, 2L));
+		writeAheadLog.snapshot();
+		writeAheadLog.close();
+		// act
+		UserPointTable userPointTable = PointTableFixture.userPointTable(false);
+		PointHistoryTable pointHistoryTable = PointTableFixture.pointHistoryTable(false);
+		new FilePointWriteAheadLog(path, snapshotPath, 0, 0, HistoryRecovery.TAIL, userPointTable,
+			pointHistoryTable).close();
+		// assert
+		assertThat(userPointTable.selectById(1L).point()).isEqualTo(300L);
+		assertThat(userPointTable.selectById(2L).point()).isEqualTo(500L);
+		assertThat(pointHistoryTable.selectAllByUserId(1L)).isEmpty();
+	}
+
+	@Test
+	void 손상된_스냅샷은_사용하지_않고_로그_전체로_복구한다() throws IOException {
+		// arrange
+		String path = directory.resolve("point.wal").toString();
+		Path snapshotPath = directory.resolve("point.snapshot");
+		FilePointWriteAheadLog writeAheadLog = new FilePointWriteAheadLog(path, snapshotPath.toString(), 0, 0,
+			HistoryRecovery.TAIL, PointTableFixture.userPointTable(false), PointTableFixture.pointHistoryTable(false));
+		writeAheadLog.append(entry(1L, 1000L, 1000L, TransactionType.CHARGE, 100L, 1L));
+		writeAheadLog.snapshot();
+		writeAheadLog.close();
+		byte[] bytes = Files.readAllBytes(snapshotPath);
+		bytes[bytes.length - 10] ^= 1;
+		Files.write(snapshotPath, bytes);
+		// act
+		UserPointTable userPointTable = PointTableFixture.userPointTable(false);
+		PointHistoryTable pointHistoryTable = PointTableFixture.pointHistoryTable(false);
+		new FilePointWriteAheadLog(path, snapshotPath.toString(), 0, 0, HistoryRecovery.TAIL, userPointTable,
+			pointHistoryTable).close();
+		// assert
+		assertThat(userPointTable.selectById(1L).point()).isEqualTo(1000L);
+		assertThat(pointHistoryTable.selectAllByUserId(1L)).hasSize(1);
+	}
+
+	@Test
+	void 잔액은_로그에_기록된_순서가_아니라_version_이_가장_큰_거래로_복구한다() throws IOException {
+		// arrange
+		String path = directory.resolve("point.wal").toString();
+		String snapshotPath = directory.resolve("point.snapshot").toString();
+		FilePointWriteAheadLog writeAheadLog = new FilePointWriteAheadLog(path, snapshotPath, 0, 0,
+			HistoryRecovery.FULL, PointTableFixture.userPointTable(false), PointTableFixture.pointHistoryTable(false));
+		writeAheadLog.append(entry(1L, 700L, 300L, TransactionType.USE, 300L, 2L));
+		writeAheadLog.append(entry(1L, 1000L, 1000L, TransactionType.CHARGE, 100L, 1L));
+		writeAheadLog.append(entry(2L, 500L, 500L, TransactionType.CHARGE, 200L, 1L));
+		writeAheadLog.snapshot();
+		writeAheadLog.append(entry(2L, 100L, 200L, TransactionType.USE, 400L, 3L));
+		writeAheadLog.append(entry(2L, 300L, 200L, TransactionType.USE, 350L, 2L));
+		writeAheadLog.close();
+		// act
+		UserPointTable userPointTable = PointTableFixture.userPointTable(false);
+		new FilePointWriteAheadLog(path, snapshotPath, 0, 0, HistoryRecovery.FULL, userPointTable,
+			PointTableFixture.pointHistoryTable(false)).close();
+		// assert
+		assertThat(userPointTable.selectVersionedById(1L))
+			.isEqualTo(new VersionedUserPoint(new UserPoint(1L, 700L, 300L), 2L));
+		assertThat(userPointTable.selectVersionedById(2L))
+			.isEqualTo(new VersionedUserPoint(new UserPoint(2L, 100L, 400L), 3L));
+	}
+
+	@Test
+	void 형식이_다른_로그는_잘린_레코드로_버리지_않고_시작을_멈춘다() throws IOException {
+		// arrange
+		Path file = directory.resolve("point.wal");
+		byte[] bytes = new byte[PointLogRecord.SIZE * 2];
+		Arrays.fill(bytes, (byte)7);
+		Files.write(file, bytes);
+		// act & assert
+		assertThatThrownBy(() -> new FilePointWriteAheadLog(file.toString(), PointTableFixture.userPointTable(false),
+			PointTableFixture.pointHistoryTable(false)))
+			.isInstanceOf(IOException.class);
+		assertThat(Files.readAllBytes(file)).isEqualTo(bytes);
+	}
+
+	@Test
+	void 버퍼보다_많은_거래를_한_번에_기록해도_모두_복구된다() throws IOException {
+		// arrange
+		String path = directory.resolve("point.wal").toString();
+		FilePointWriteAheadLog writeAheadLog = new FilePointWriteAheadLog(path, PointTableFixture.userPointTable(false),
+			PointTableFixture.pointHistoryTable(false));
+		int count = 10_000;
+		PointHistoryEntry[] entries = new PointHistoryEntry[count];
+		for (int i = 0; i < count; i++) {
+			entries[i] = entry(1L, (i + 1) * 10L, 10L, TransactionType.CHARGE, i, i + 1);
+		}
+		writeAheadLog.appendAll(List.of(entries));
+		writeAheadLog.close();
+		// act
+		UserPointTable userPointTable = PointTableFixture.userPointTable(false);
+		PointHistoryTable pointHistoryTable = PointTableFixture.pointHistoryTable(false);
+		new FilePointWriteAheadLog(path, userPointTable, pointHistoryTable).close();
+		// assert
+		assertThat(userPointTable.selectVersionedById(1L).version()).isEqualTo(count);
+		assertThat(userPointTable.selectById(1L).point()).isEqualTo(count * 10L);
+		assertThat(pointHistoryTable.selectAllByUserId(1L)).hasSize(count);
+	}
+
+	private static PointHistoryEntry entry(long userId, long amount, long transactionAmount, TransactionType type,
+		long updateMillis, long version) {
+		return new PointHistoryEntry(userId, amount, transactionAmount, type, updateMillis, version);
+	}
+}